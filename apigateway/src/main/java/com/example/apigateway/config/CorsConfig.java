@@ -43,7 +43,11 @@ public class CorsConfig {
         config.setExposedHeaders(Arrays.asList(
             "Authorization", 
             "Access-Control-Allow-Origin", 
-            "Access-Control-Allow-Credentials"
+            "Access-Control-Allow-Credentials",
+            "Age",
+            "X-Dashboard-Snapshot-Age",
+            "X-Dashboard-Refreshing",
+            "X-Total-Count"
         ));
 
         // 6. Pre-flight cache
@@ -3,8 +3,10 @@ package com.example.assets;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableScheduling
 public class AssetsApplication {
 
 	public static void main(String[] args) {
@@ -10,13 +10,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import com.example.assets.asset.service.AssetService;
  
+import com.example.assets.asset.dto.AssetBulkResultDTO;
+import com.example.assets.asset.dto.AssetBulkUpdateDTO;
+import com.example.assets.asset.dto.AssetChangesDTO;
+import com.example.assets.asset.dto.AssetPageDTO;
 import com.example.assets.asset.dto.AssetRequestDTO;
 import com.example.assets.asset.dto.AssetResponseDTO;
+import com.example.assets.asset.dto.AssetStatsDTO;
+import com.example.assets.asset.dto.AssetStatusChangeDTO;
 import com.example.assets.asset.enums.AssetStatus;
+import com.example.assets.asset.enums.AssetType;
+import com.example.assets.asset.exception.InvalidAssetDataException;
 import jakarta.validation.Valid;
  
 @RestController
@@ -35,13 +45,44 @@ public class AssetController {
         return service.createAsset(dto);
     }
  
+    // Strong ETags come from the registry id + version, read before the body so a body is never older
+    // than its tag; a matching If-None-Match gets 304 before any list is built or serialized.
+    // The registry id keeps tags from different instances behind the load balancer from colliding.
     @GetMapping
-    public List<AssetResponseDTO> getAll() {
+    public List<AssetResponseDTO> getAll(WebRequest request) {
+        if (request.checkNotModified("assets-" + service.getRegistryTag())) {
+            return null;
+        }
         return service.getAllAssets();
     }
  
+    // Bulk writes run in one transaction; invalid items come back in "errors" with their index
+    @PostMapping("/bulk")
+    public AssetBulkResultDTO createBulk(@RequestBody List<AssetRequestDTO> dtos) {
+        return service.createAssets(dtos);
+    }
+ 
+    @PutMapping("/bulk")
+    public AssetBulkResultDTO updateBulk(@RequestBody List<AssetBulkUpdateDTO> dtos) {
+        return service.updateAssets(dtos);
+    }
+ 
+    @PutMapping("/bulk/status")
+    public AssetBulkResultDTO changeStatusBulk(@RequestBody AssetStatusChangeDTO dto) {
+        return service.changeStatus(dto);
+    }
+ 
+    @PostMapping("/batch")
+    public List<AssetResponseDTO> getBatch(@RequestBody List<Long> ids) {
+        return service.getAssetsByIds(ids);
+    }
+ 
     @GetMapping("/{id}")
-    public AssetResponseDTO get(@PathVariable Long id) {
+    public AssetResponseDTO get(@PathVariable Long id, WebRequest request) {
+        String tag = service.getAssetTag(id);
+        if (tag != null && request.checkNotModified("asset-" + tag)) {
+            return null;
+        }
         return service.getAssetById(id);
     }
  
@@ -61,9 +102,39 @@ public class AssetController {
         return service.existsById(id);
     }
  
+    // Full id list used by consumers to (re)build their local existence index
+    @GetMapping("/ids")
+    public List<Long> getAllIds(WebRequest request) {
+        if (request.checkNotModified("ids-" + service.getRegistryTag())) {
+            return null;
+        }
+        return service.getAllAssetIds();
+    }
+ 
+    // Incremental sync: assets changed or deleted after the given registry version. Pass back the
+    // registryId and version from the previous response; a version alone is answered incrementally
+    // while it is still in this instance's change log, anything else gets a full resync.
+    @GetMapping("/changes")
+    public AssetChangesDTO getChanges(@RequestParam(required = false) String registryId,
+                                      @RequestParam(defaultValue = "0") long since) {
+        return service.getChangesSince(registryId, since);
+    }
+ 
     @GetMapping("/status/{status}")
     public List<AssetResponseDTO> getAssetsByStatus(@PathVariable String status) {
-        return service.getAssetsByStatus(AssetStatus.valueOf(status));
+        return service.getAssetsByStatus(parseEnum(AssetStatus.class, status, "status"));
+    }
+ 
+    // All filters optional: type, status, location prefix, name substring; sorted by id
+    @GetMapping("/search")
+    public AssetPageDTO search(@RequestParam(required = false) String type,
+                               @RequestParam(required = false) String status,
+                               @RequestParam(required = false) String location,
+                               @RequestParam(required = false) String name,
+                               @RequestParam(defaultValue = "0") int page,
+                               @RequestParam(defaultValue = "50") int size) {
+        return service.searchAssets(parseEnum(AssetType.class, type, "type"),
+                parseEnum(AssetStatus.class, status, "status"), location, name, page, size);
     }
 
     @GetMapping("/count")
@@ -71,5 +142,23 @@ public class AssetController {
         return service.getCount();
     }
  
+    // Counts per type x status; constant size regardless of how many assets exist
+    @GetMapping("/stats")
+    public AssetStatsDTO getStats() {
+        return service.getStats();
+    }
+ 
+    // Case-insensitive; unknown values are a 400 instead of an IllegalArgumentException (500)
+    private static <E extends Enum<E>> E parseEnum(Class<E> enumType, String value, String field) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(enumType, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidAssetDataException("Invalid asset " + field + ": " + value);
+        }
+    }
+ 
 }
  
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.example.assets.asset.dto;
+ 
+import java.util.ArrayList;
+import java.util.List;
+ 
+// Outcome of a bulk write: valid items are applied together, invalid ones are reported by position
+public class AssetBulkResultDTO {
+ 
+    private int requested;
+    private List<AssetResponseDTO> succeeded = new ArrayList<>();
+    private List<ItemError> errors = new ArrayList<>();
+ 
+    public static class ItemError {
+        // Position of the item in the request list
+        private int index;
+        private Long assetId;
+        private String message;
+ 
+        public ItemError() {
+        }
+ 
+        public ItemError(int index, Long assetId, String message) {
+            this.index = index;
+            this.assetId = assetId;
+            this.message = message;
+        }
+ 
+        // Explicit getters and setters
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+ 
+        public Long getAssetId() { return assetId; }
+        public void setAssetId(Long assetId) { this.assetId = assetId; }
+ 
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+ 
+    // Explicit getters and setters
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+ 
+    public List<AssetResponseDTO> getSucceeded() { return succeeded; }
+    public void setSucceeded(List<AssetResponseDTO> succeeded) { this.succeeded = succeeded; }
+ 
+    public List<ItemError> getErrors() { return errors; }
+    public void setErrors(List<ItemError> errors) { this.errors = errors; }
+}
@@ -0,0 +1,11 @@
+package com.example.assets.asset.dto;
+ 
+// One item of a bulk update: the asset id plus the same fields as a single PUT
+public class AssetBulkUpdateDTO extends AssetRequestDTO {
+ 
+    private Long assetId;
+ 
+    // Explicit getters and setters
+    public Long getAssetId() { return assetId; }
+    public void setAssetId(Long assetId) { this.assetId = assetId; }
+}
@@ -0,0 +1,32 @@
+package com.example.assets.asset.dto;
+ 
+import java.util.ArrayList;
+import java.util.List;
+ 
+// Delta between the caller's registry version and the current one
+public class AssetChangesDTO {
+ 
+    // Registry instance that issued "version"; send both back on the next request
+    private String registryId;
+    private long version;
+    // true when the requested version is unknown to this instance or no longer retained: "changed" then holds every asset
+    private boolean fullResync;
+    private List<AssetResponseDTO> changed = new ArrayList<>();
+    private List<Long> deleted = new ArrayList<>();
+ 
+    // Explicit getters and setters
+    public String getRegistryId() { return registryId; }
+    public void setRegistryId(String registryId) { this.registryId = registryId; }
+ 
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+ 
+    public boolean isFullResync() { return fullResync; }
+    public void setFullResync(boolean fullResync) { this.fullResync = fullResync; }
+ 
+    public List<AssetResponseDTO> getChanged() { return changed; }
+    public void setChanged(List<AssetResponseDTO> changed) { this.changed = changed; }
+ 
+    public List<Long> getDeleted() { return deleted; }
+    public void setDeleted(List<Long> deleted) { this.deleted = deleted; }
+}
@@ -0,0 +1,30 @@
+package com.example.assets.asset.dto;
+ 
+import java.util.ArrayList;
+import java.util.List;
+ 
+// One page of search results plus the paging metadata
+public class AssetPageDTO {
+ 
+    private List<AssetResponseDTO> content = new ArrayList<>();
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+ 
+    // Explicit getters and setters
+    public List<AssetResponseDTO> getContent() { return content; }
+    public void setContent(List<AssetResponseDTO> content) { this.content = content; }
+ 
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+ 
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+ 
+    public long getTotalElements() { return totalElements; }
+    public void setTotalElements(long totalElements) { this.totalElements = totalElements; }
+ 
+    public int getTotalPages() { return totalPages; }
+    public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
+}
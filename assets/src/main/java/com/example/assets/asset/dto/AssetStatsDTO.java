@@ -0,0 +1,29 @@
+package com.example.assets.asset.dto;
+ 
+import java.util.EnumMap;
+import java.util.Map;
+ 
+import com.example.assets.asset.enums.AssetStatus;
+import com.example.assets.asset.enums.AssetType;
+ 
+// Asset counts per type x status; every enum combination is present, zero when empty
+public class AssetStatsDTO {
+ 
+    private long total;
+    private Map<AssetStatus, Long> byStatus = new EnumMap<>(AssetStatus.class);
+    private Map<AssetType, Long> byType = new EnumMap<>(AssetType.class);
+    private Map<AssetType, Map<AssetStatus, Long>> byTypeAndStatus = new EnumMap<>(AssetType.class);
+ 
+    // Explicit getters and setters
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+ 
+    public Map<AssetStatus, Long> getByStatus() { return byStatus; }
+    public void setByStatus(Map<AssetStatus, Long> byStatus) { this.byStatus = byStatus; }
+ 
+    public Map<AssetType, Long> getByType() { return byType; }
+    public void setByType(Map<AssetType, Long> byType) { this.byType = byType; }
+ 
+    public Map<AssetType, Map<AssetStatus, Long>> getByTypeAndStatus() { return byTypeAndStatus; }
+    public void setByTypeAndStatus(Map<AssetType, Map<AssetStatus, Long>> byTypeAndStatus) { this.byTypeAndStatus = byTypeAndStatus; }
+}
@@ -0,0 +1,19 @@
+package com.example.assets.asset.dto;
+import java.util.ArrayList;
+import java.util.List;
+ 
+import com.example.assets.asset.enums.AssetStatus;
+ 
+// Moves every listed asset to the same status
+public class AssetStatusChangeDTO {
+ 
+    private List<Long> assetIds = new ArrayList<>();
+    private AssetStatus status;
+ 
+    // Explicit getters and setters
+    public List<Long> getAssetIds() { return assetIds; }
+    public void setAssetIds(List<Long> assetIds) { this.assetIds = assetIds; }
+ 
+    public AssetStatus getStatus() { return status; }
+    public void setStatus(AssetStatus status) { this.status = status; }
+}
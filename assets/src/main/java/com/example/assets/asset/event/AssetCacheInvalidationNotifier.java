@@ -0,0 +1,95 @@
+package com.example.assets.asset.event;
+ 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+ 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestTemplate;
+ 
+import jakarta.annotation.PreDestroy;
+ 
+/**
+ * Tells the services that cache asset lookups (production, maintenance) to evict
+ * assets that were updated or deleted, and pushes creates/deletes to the services
+ * that keep an asset existence index (maintenance). Best effort: the consumer cache
+ * TTL and the index's periodic resync bound staleness if an instance cannot be reached.
+ */
+@Component
+public class AssetCacheInvalidationNotifier {
+ 
+    private static final Logger log = LoggerFactory.getLogger(AssetCacheInvalidationNotifier.class);
+ 
+    private static final String EVICT_PATH = "/internal/cache/assets/evict";
+    private static final String INDEX_PATH = "/internal/assets/index/";
+ 
+    private final DiscoveryClient discoveryClient;
+    private final List<String> consumerServices;
+    private final List<String> indexServices;
+    private final RestTemplate restTemplate;
+ 
+    // Notifications are sent off the request thread, one at a time
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "asset-cache-invalidation");
+        t.setDaemon(true);
+        return t;
+    });
+ 
+    public AssetCacheInvalidationNotifier(
+            DiscoveryClient discoveryClient,
+            @Value("${assets.cache-invalidation.services:PRODUCTION-SERVICE,MAINTENANCE-SERVICE}") List<String> consumerServices,
+            @Value("${assets.existence-index.services:MAINTENANCE-SERVICE}") List<String> indexServices) {
+        this.discoveryClient = discoveryClient;
+        this.consumerServices = consumerServices;
+        this.indexServices = indexServices;
+ 
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(2000);
+        requestFactory.setReadTimeout(2000);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+ 
+    // Runs after commit when called inside a transaction, immediately otherwise
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChange(AssetChangeEvent event) {
+        if (event.getAssetIds().isEmpty()) {
+            return;
+        }
+        AssetChangeEvent.ChangeType type = event.getType();
+        executor.execute(() -> {
+            // Consumers never cache unknown ids, so creates need no eviction
+            if (type != AssetChangeEvent.ChangeType.CREATED) {
+                broadcast(consumerServices, EVICT_PATH, event.getAssetIds());
+            }
+            // Updates do not change which ids exist
+            if (type != AssetChangeEvent.ChangeType.UPDATED) {
+                broadcast(indexServices, INDEX_PATH + type.name().toLowerCase(), event.getAssetIds());
+            }
+        });
+    }
+ 
+    private void broadcast(List<String> services, String path, List<Long> assetIds) {
+        for (String serviceId : services) {
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                try {
+                    restTemplate.postForLocation(instance.getUri() + path, assetIds);
+                } catch (Exception e) {
+                    log.warn("Asset change notification to {} failed for {} at {}", path, serviceId,
+                            instance.getUri(), e);
+                }
+            }
+        }
+    }
+ 
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.assets.asset.event;
+ 
+import java.util.List;
+ 
+// Published once per asset write (or once per batch of writes)
+public class AssetChangeEvent {
+ 
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+ 
+    private final ChangeType type;
+    private final List<Long> assetIds;
+ 
+    public AssetChangeEvent(ChangeType type, List<Long> assetIds) {
+        this.type = type;
+        this.assetIds = List.copyOf(assetIds);
+    }
+ 
+    public static AssetChangeEvent of(ChangeType type, Long assetId) {
+        return new AssetChangeEvent(type, List.of(assetId));
+    }
+ 
+    public ChangeType getType() { return type; }
+ 
+    public List<Long> getAssetIds() { return assetIds; }
+}
@@ -0,0 +1,73 @@
+package com.example.assets.asset.repository;
+ 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+ 
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+ 
+import com.example.assets.asset.entity.Asset;
+ 
+/**
+ * Multi-row inserts for bulk onboarding. Hibernate cannot batch IDENTITY inserts, so these go
+ * through one JDBC batch (rewritten into multi-value INSERTs by the driver) on the connection
+ * of the surrounding JPA transaction; generated ids come back in insertion order.
+ */
+@Repository
+public class AssetBatchRepository {
+ 
+    private static final String INSERT_SQL =
+            "INSERT INTO assets (name, type, location, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+ 
+    private final JdbcTemplate jdbc;
+ 
+    public AssetBatchRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+ 
+    // Sets createdAt/updatedAt like @PrePersist would, and fills in the generated asset ids
+    public List<Asset> insertAll(List<Asset> assets) {
+        if (assets.isEmpty()) {
+            return assets;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+ 
+        return jdbc.execute((ConnectionCallback<List<Asset>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Asset asset : assets) {
+                    ps.setString(1, asset.getName());
+                    ps.setString(2, asset.getType().name());
+                    ps.setString(3, asset.getLocation());
+                    ps.setString(4, asset.getStatus().name());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+ 
+                List<Long> ids = new ArrayList<>();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != assets.size()) {
+                    throw new IllegalStateException("Expected " + assets.size() + " generated ids, got " + ids.size());
+                }
+                for (int i = 0; i < assets.size(); i++) {
+                    Asset asset = assets.get(i);
+                    asset.setAssetId(ids.get(i));
+                    asset.setCreatedAt(now.toLocalDateTime());
+                    asset.setUpdatedAt(now.toLocalDateTime());
+                }
+                return assets;
+            }
+        });
+    }
+}
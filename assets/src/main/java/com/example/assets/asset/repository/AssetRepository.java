@@ -1,12 +1,55 @@
 package com.example.assets.asset.repository;
  
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
  
 import com.example.assets.asset.entity.Asset;
 import com.example.assets.asset.enums.AssetStatus;
+import com.example.assets.asset.enums.AssetType;
 import java.util.List;
  
 public interface AssetRepository extends JpaRepository<Asset, Long> {
     List<Asset> findByStatus(AssetStatus status);
+ 
+    // Columns needed by search results only, no managed entity is loaded
+    interface AssetSummary {
+        Long getAssetId();
+        String getName();
+        AssetType getType();
+        String getLocation();
+        AssetStatus getStatus();
+    }
+ 
+    // Null filters are ignored; location is a prefix match (uses idx_assets_location), name a
+    // case-insensitive substring match. Patterns are built by the caller with '!' as escape char.
+    @Query(value = "select a.assetId as assetId, a.name as name, a.type as type, "
+                 + "a.location as location, a.status as status from Asset a "
+                 + "where (:type is null or a.type = :type) "
+                 + "and (:status is null or a.status = :status) "
+                 + "and (:locationPattern is null or a.location like :locationPattern escape '!') "
+                 + "and (:namePattern is null or lower(a.name) like :namePattern escape '!')",
+           countQuery = "select count(a) from Asset a "
+                 + "where (:type is null or a.type = :type) "
+                 + "and (:status is null or a.status = :status) "
+                 + "and (:locationPattern is null or a.location like :locationPattern escape '!') "
+                 + "and (:namePattern is null or lower(a.name) like :namePattern escape '!')")
+    Page<AssetSummary> search(@Param("type") AssetType type,
+                              @Param("status") AssetStatus status,
+                              @Param("locationPattern") String locationPattern,
+                              @Param("namePattern") String namePattern,
+                              Pageable pageable);
+ 
+    interface TypeStatusCount {
+        AssetType getType();
+        AssetStatus getStatus();
+        long getCount();
+    }
+ 
+    // One row per (type, status) pair that has assets; answered from idx_assets_type_status
+    @Query("select a.type as type, a.status as status, count(a) as count from Asset a "
+         + "group by a.type, a.status")
+    List<TypeStatusCount> countByTypeAndStatus();
 }
- 
\ No newline at end of file
@@ -0,0 +1,266 @@
+package com.example.assets.asset.service;
+ 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+ 
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+ 
+import com.example.assets.asset.dto.AssetChangesDTO;
+import com.example.assets.asset.dto.AssetResponseDTO;
+import com.example.assets.asset.entity.Asset;
+import com.example.assets.asset.event.AssetChangeEvent;
+import com.example.assets.asset.repository.AssetRepository;
+ 
+/**
+ * In-memory, copy-on-write snapshot of every asset. Reads use the current snapshot
+ * without locking; each write builds a new snapshot and swaps it in with a higher version.
+ * A bounded log of (version, assetId) entries backs the GET /api/assets/changes feed.
+ * Versions are only meaningful within one registry instance: every version handed out is
+ * paired with this instance's registry id, and a "since" from another instance gets a full resync.
+ * A "since" sent without a registry id is answered incrementally when it lies in this instance's
+ * retained window, since versions start at the load time and rarely overlap between instances.
+ */
+@Component
+public class AssetRegistry {
+ 
+    // Versions retained for the change feed; older "since" values get a full resync
+    private static final int MAX_LOGGED_CHANGES = 10_000;
+ 
+    private final AssetRepository repo;
+    // Identifies this process's version sequence; other instances behind the load balancer have their own
+    private final String registryId = UUID.randomUUID().toString();
+ 
+    private volatile Snapshot current;
+    private final Deque<Change> changeLog = new ArrayDeque<>();
+    // Lowest "since" the log can still answer: the initial version, or the newest version trimmed from the log
+    private long oldestSyncableVersion;
+ 
+    public AssetRegistry(AssetRepository repo) {
+        this.repo = repo;
+    }
+ 
+    /* ================= SNAPSHOT ================= */
+ 
+    public static final class Snapshot {
+        private final String registryId;
+        private final long version;
+        private final Map<Long, AssetResponseDTO> byId;
+        // Version at which each asset last changed, used for per-asset ETags
+        private final Map<Long, Long> revisions;
+        private final List<AssetResponseDTO> all;
+        private final List<Long> ids;
+ 
+        Snapshot(String registryId, long version, Map<Long, AssetResponseDTO> byId, Map<Long, Long> revisions) {
+            this.registryId = registryId;
+            this.version = version;
+            this.byId = Collections.unmodifiableMap(byId);
+            this.revisions = Collections.unmodifiableMap(revisions);
+            this.all = List.copyOf(byId.values());
+            this.ids = List.copyOf(byId.keySet());
+        }
+ 
+        public String getRegistryId() { return registryId; }
+ 
+        public long getVersion() { return version; }
+ 
+        // Opaque validator for the whole registry, unique across instances
+        public String getTag() { return registryId + "-" + version; }
+ 
+        public Long getRevision(Long assetId) { return revisions.get(assetId); }
+ 
+        // Validator for one asset, or null when the asset does not exist
+        public String getTag(Long assetId) {
+            Long revision = revisions.get(assetId);
+            return revision != null ? registryId + "-" + assetId + "-" + revision : null;
+        }
+ 
+        public List<AssetResponseDTO> getAll() { return all; }
+ 
+        public AssetResponseDTO get(Long assetId) { return byId.get(assetId); }
+ 
+        public boolean contains(Long assetId) { return byId.containsKey(assetId); }
+ 
+        public List<Long> getIds() { return ids; }
+ 
+        public int size() { return byId.size(); }
+    }
+ 
+    private static final class Change {
+        private final long version;
+        private final Long assetId;
+ 
+        Change(long version, Long assetId) {
+            this.version = version;
+            this.assetId = assetId;
+        }
+    }
+ 
+    public Snapshot getSnapshot() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot : loadInitial();
+    }
+ 
+    // Versions start at the load time in millis, so they keep increasing across restarts
+    private synchronized Snapshot loadInitial() {
+        if (current == null) {
+            long version = System.currentTimeMillis();
+            Map<Long, AssetResponseDTO> byId = loadAll();
+            Map<Long, Long> revisions = new HashMap<>();
+            byId.keySet().forEach(assetId -> revisions.put(assetId, version));
+            current = new Snapshot(registryId, version, byId, revisions);
+            oldestSyncableVersion = current.getVersion();
+        }
+        return current;
+    }
+ 
+    private Map<Long, AssetResponseDTO> loadAll() {
+        Map<Long, AssetResponseDTO> byId = new TreeMap<>();
+        for (Asset asset : repo.findAll()) {
+            byId.put(asset.getAssetId(), toResponse(asset));
+        }
+        return byId;
+    }
+ 
+    /* ================= WRITES ================= */
+ 
+    // Runs after the write commits (immediately when there is no transaction). The rows are read
+    // under the registry lock, so of two concurrent writes the one applied last also read last.
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAssetChange(AssetChangeEvent event) {
+        Map<Long, AssetResponseDTO> updates = new LinkedHashMap<>();
+        for (Long assetId : event.getAssetIds()) {
+            updates.put(assetId, null);
+        }
+        if (event.getType() != AssetChangeEvent.ChangeType.DELETED) {
+            for (Asset asset : repo.findAllById(event.getAssetIds())) {
+                updates.put(asset.getAssetId(), toResponse(asset));
+            }
+        }
+        apply(updates);
+    }
+ 
+    // Catches writes made through other instances or directly in the database.
+    // Runs under the registry lock so a concurrent write event cannot be overwritten by older rows.
+    @Scheduled(initialDelayString = "${assets.registry.resync-ms:60000}",
+               fixedDelayString = "${assets.registry.resync-ms:60000}")
+    public synchronized void resync() {
+        Snapshot snapshot = getSnapshot();
+        Map<Long, AssetResponseDTO> fresh = loadAll();
+ 
+        Map<Long, AssetResponseDTO> updates = new LinkedHashMap<>();
+        for (AssetResponseDTO asset : snapshot.getAll()) {
+            if (!fresh.containsKey(asset.getAssetId())) {
+                updates.put(asset.getAssetId(), null);
+            }
+        }
+        fresh.forEach((assetId, asset) -> {
+            if (!sameContent(snapshot.get(assetId), asset)) {
+                updates.put(assetId, asset);
+            }
+        });
+        if (!updates.isEmpty()) {
+            apply(updates);
+        }
+    }
+ 
+    // null value = asset removed
+    private synchronized void apply(Map<Long, AssetResponseDTO> updates) {
+        Snapshot snapshot = getSnapshot();
+        Map<Long, AssetResponseDTO> byId = new TreeMap<>();
+        Map<Long, Long> revisions = new HashMap<>(snapshot.revisions);
+        for (AssetResponseDTO asset : snapshot.getAll()) {
+            byId.put(asset.getAssetId(), asset);
+        }
+ 
+        long version = snapshot.getVersion() + 1;
+        updates.forEach((assetId, asset) -> {
+            if (asset != null) {
+                byId.put(assetId, asset);
+                revisions.put(assetId, version);
+            } else {
+                byId.remove(assetId);
+                revisions.remove(assetId);
+            }
+            changeLog.addLast(new Change(version, assetId));
+        });
+        while (changeLog.size() > MAX_LOGGED_CHANGES) {
+            oldestSyncableVersion = Math.max(oldestSyncableVersion, changeLog.removeFirst().version);
+        }
+ 
+        current = new Snapshot(registryId, version, byId, revisions);
+    }
+ 
+    /* ================= CHANGE FEED ================= */
+ 
+    public synchronized AssetChangesDTO getChangesSince(String sinceRegistryId, long since) {
+        Snapshot snapshot = getSnapshot();
+        AssetChangesDTO changes = new AssetChangesDTO();
+        changes.setRegistryId(registryId);
+        changes.setVersion(snapshot.getVersion());
+ 
+        // Without a registry id the version alone is trusted as far as the window below checks it
+        boolean sameRegistry = sinceRegistryId == null || registryId.equals(sinceRegistryId);
+        if (since == snapshot.getVersion() && sameRegistry) {
+            return changes;
+        }
+ 
+        // "since" must not come from another instance, not be ahead of this one, and everything
+        // after it must still be in the log; otherwise send the whole registry
+        if (!sameRegistry || since > snapshot.getVersion() || since < oldestSyncableVersion) {
+            changes.setFullResync(true);
+            changes.setChanged(new ArrayList<>(snapshot.getAll()));
+            return changes;
+        }
+ 
+        Map<Long, Boolean> touched = new LinkedHashMap<>();
+        Iterator<Change> it = changeLog.descendingIterator();
+        while (it.hasNext()) {
+            Change change = it.next();
+            if (change.version <= since) {
+                break;
+            }
+            touched.put(change.assetId, Boolean.TRUE);
+        }
+        for (Long assetId : touched.keySet()) {
+            AssetResponseDTO asset = snapshot.get(assetId);
+            if (asset != null) {
+                changes.getChanged().add(asset);
+            } else {
+                changes.getDeleted().add(assetId);
+            }
+        }
+        return changes;
+    }
+ 
+    /* ================= MAPPING ================= */
+ 
+    public static AssetResponseDTO toResponse(Asset asset) {
+        AssetResponseDTO dto = new AssetResponseDTO();
+        dto.setAssetId(asset.getAssetId());
+        dto.setName(asset.getName());
+        dto.setType(asset.getType());
+        dto.setLocation(asset.getLocation());
+        dto.setStatus(asset.getStatus());
+        return dto;
+    }
+ 
+    private static boolean sameContent(AssetResponseDTO a, AssetResponseDTO b) {
+        return a != null && b != null
+                && Objects.equals(a.getName(), b.getName())
+                && a.getType() == b.getType()
+                && Objects.equals(a.getLocation(), b.getLocation())
+                && a.getStatus() == b.getStatus();
+    }
+}
@@ -2,18 +2,35 @@ package com.example.assets.asset.service;
  
 import java.util.List;
  
+import com.example.assets.asset.dto.AssetBulkResultDTO;
+import com.example.assets.asset.dto.AssetBulkUpdateDTO;
+import com.example.assets.asset.dto.AssetChangesDTO;
+import com.example.assets.asset.dto.AssetPageDTO;
 import com.example.assets.asset.dto.AssetRequestDTO;
 import com.example.assets.asset.dto.AssetResponseDTO;
+import com.example.assets.asset.dto.AssetStatsDTO;
+import com.example.assets.asset.dto.AssetStatusChangeDTO;
 import com.example.assets.asset.enums.AssetStatus;
+import com.example.assets.asset.enums.AssetType;
  
 public interface AssetService {
  
     AssetResponseDTO createAsset(AssetRequestDTO dto);
     List<AssetResponseDTO> getAllAssets();
+    List<AssetResponseDTO> getAssetsByIds(List<Long> ids);
     AssetResponseDTO getAssetById(Long id);
     AssetResponseDTO updateAsset(Long id, AssetRequestDTO dto);
     void deleteAsset(Long id);
     boolean existsById(Long id);
+    List<Long> getAllAssetIds();
+    AssetChangesDTO getChangesSince(String registryId, long since);
+    String getRegistryTag();
+    String getAssetTag(Long id);
     List<AssetResponseDTO> getAssetsByStatus(AssetStatus status);
+    AssetPageDTO searchAssets(AssetType type, AssetStatus status, String location, String name, int page, int size);
+    AssetBulkResultDTO createAssets(List<AssetRequestDTO> dtos);
+    AssetBulkResultDTO updateAssets(List<AssetBulkUpdateDTO> dtos);
+    AssetBulkResultDTO changeStatus(AssetStatusChangeDTO dto);
     int getCount();
+    AssetStatsDTO getStats();
 }
\ No newline at end of file
@@ -1,24 +1,62 @@
 package com.example.assets.asset.service.impl;
  
+import com.example.assets.asset.dto.AssetBulkResultDTO;
+import com.example.assets.asset.dto.AssetBulkUpdateDTO;
+import com.example.assets.asset.dto.AssetChangesDTO;
+import com.example.assets.asset.dto.AssetPageDTO;
 import com.example.assets.asset.dto.AssetRequestDTO;
 import com.example.assets.asset.dto.AssetResponseDTO;
+import com.example.assets.asset.dto.AssetStatsDTO;
+import com.example.assets.asset.dto.AssetStatusChangeDTO;
 import com.example.assets.asset.entity.Asset;
+import com.example.assets.asset.event.AssetChangeEvent;
 import com.example.assets.asset.enums.AssetStatus;
+import com.example.assets.asset.enums.AssetType;
 import com.example.assets.asset.exception.AssetNotFoundException;
 import com.example.assets.asset.exception.InvalidAssetDataException;
+import com.example.assets.asset.repository.AssetBatchRepository;
 import com.example.assets.asset.repository.AssetRepository;
+import com.example.assets.asset.service.AssetRegistry;
 import com.example.assets.asset.service.AssetService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
  
 @Service
 public class AssetServiceImpl implements AssetService {
  
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BULK_ITEMS = 1000;
+ 
     private final AssetRepository repo;
+    private final ApplicationEventPublisher events;
+    private final AssetRegistry registry;
+    private final AssetBatchRepository batchRepo;
+ 
+    // Stats computed at a registry version; any write (or resync) bumps the version and forces a recount
+    private record CachedStats(long version, AssetStatsDTO stats) {}
+ 
+    private volatile CachedStats cachedStats;
  
-    public AssetServiceImpl(AssetRepository repo) {
+    public AssetServiceImpl(AssetRepository repo, ApplicationEventPublisher events, AssetRegistry registry,
+                            AssetBatchRepository batchRepo) {
         this.repo = repo;
+        this.events = events;
+        this.registry = registry;
+        this.batchRepo = batchRepo;
     }
     //create asset
     @Override
@@ -37,23 +75,38 @@ public class AssetServiceImpl implements AssetService {
         //default status
         asset.setStatus(AssetStatus.ACTIVE);
  
-        return map(repo.save(asset));
+        Asset saved = repo.save(asset);
+        events.publishEvent(AssetChangeEvent.of(AssetChangeEvent.ChangeType.CREATED, saved.getAssetId()));
+        return map(saved);
     }
-    //get all assets
+    //get all assets (served from the in-memory registry snapshot)
     @Override
     public List<AssetResponseDTO> getAllAssets() {
-        return repo.findAll()
+        return registry.getSnapshot().getAll();
+    }
+ 
+    //get assets by ids (batch lookup, missing ids are skipped)
+    @Override
+    public List<AssetResponseDTO> getAssetsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        AssetRegistry.Snapshot snapshot = registry.getSnapshot();
+        return new LinkedHashSet<>(ids)
                    .stream()
-                   .map(this::map)
+                   .map(snapshot::get)
+                   .filter(Objects::nonNull)
                    .collect(Collectors.toList());
     }
  
     //get asset by id
     @Override
     public AssetResponseDTO getAssetById(Long id) {
-        Asset asset = repo.findById(id)
-                .orElseThrow(() -> new AssetNotFoundException(id));
-        return map(asset);
+        AssetResponseDTO asset = registry.getSnapshot().get(id);
+        if (asset == null) {
+            throw new AssetNotFoundException(id);
+        }
+        return asset;
     }
     //delete asset
     @Override
@@ -62,22 +115,37 @@ public class AssetServiceImpl implements AssetService {
             throw new AssetNotFoundException(id);
         }
         repo.deleteById(id);
+        events.publishEvent(AssetChangeEvent.of(AssetChangeEvent.ChangeType.DELETED, id));
     }
  
     @Override
     public boolean existsById(Long id) {
-        return repo.existsById(id);
+        return registry.getSnapshot().contains(id);
+    }
+ 
+    @Override
+    public List<Long> getAllAssetIds() {
+        return registry.getSnapshot().getIds();
+    }
+ 
+    @Override
+    public AssetChangesDTO getChangesSince(String registryId, long since) {
+        return registry.getChangesSince(registryId, since);
+    }
+ 
+    @Override
+    public String getRegistryTag() {
+        return registry.getSnapshot().getTag();
+    }
+ 
+    @Override
+    public String getAssetTag(Long id) {
+        return registry.getSnapshot().getTag(id);
     }
  
     //mapper
     private AssetResponseDTO map(Asset asset) {
-        AssetResponseDTO dto = new AssetResponseDTO();
-        dto.setAssetId(asset.getAssetId());
-        dto.setName(asset.getName());
-        dto.setType(asset.getType());
-        dto.setLocation(asset.getLocation());
-        dto.setStatus(asset.getStatus());
-        return dto;
+        return AssetRegistry.toResponse(asset);
     }
  
     @Override
@@ -102,20 +170,250 @@ public class AssetServiceImpl implements AssetService {
             asset.setStatus(dto.getStatus());
         }
        
-        return map(repo.save(asset));
+        Asset saved = repo.save(asset);
+        events.publishEvent(AssetChangeEvent.of(AssetChangeEvent.ChangeType.UPDATED, saved.getAssetId()));
+        return map(saved);
     }
    
     @Override
     public List<AssetResponseDTO> getAssetsByStatus(AssetStatus status) {
-        return repo.findByStatus(status)
+        return registry.getSnapshot().getAll()
                 .stream()
-                .map(this::map)
+                .filter(asset -> asset.getStatus() == status)
                 .collect(Collectors.toList());
     }
 
+    //search assets (indexed projection query, one page at a time)
+    @Override
+    public AssetPageDTO searchAssets(AssetType type, AssetStatus status, String location, String name,
+                                     int page, int size) {
+        if (page < 0) {
+            throw new InvalidAssetDataException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidAssetDataException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+ 
+        String locationPattern = hasText(location) ? escapeLike(location.trim()) + "%" : null;
+        String namePattern = hasText(name) ? "%" + escapeLike(name.trim().toLowerCase()) + "%" : null;
+ 
+        Page<AssetRepository.AssetSummary> result = repo.search(type, status, locationPattern, namePattern,
+                PageRequest.of(page, size, Sort.by("assetId")));
+ 
+        AssetPageDTO dto = new AssetPageDTO();
+        dto.setContent(result.getContent().stream().map(this::map).collect(Collectors.toList()));
+        dto.setPage(result.getNumber());
+        dto.setSize(result.getSize());
+        dto.setTotalElements(result.getTotalElements());
+        dto.setTotalPages(result.getTotalPages());
+        return dto;
+    }
+ 
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+ 
+    // '!' is the escape char declared in the search query
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+ 
+    private AssetResponseDTO map(AssetRepository.AssetSummary summary) {
+        AssetResponseDTO dto = new AssetResponseDTO();
+        dto.setAssetId(summary.getAssetId());
+        dto.setName(summary.getName());
+        dto.setType(summary.getType());
+        dto.setLocation(summary.getLocation());
+        dto.setStatus(summary.getStatus());
+        return dto;
+    }
+ 
+    /* ================= BULK WRITES ================= */
+ 
+    // Valid items are inserted in one JDBC batch; invalid ones are reported and skipped
+    @Override
+    @Transactional
+    public AssetBulkResultDTO createAssets(List<AssetRequestDTO> dtos) {
+        AssetBulkResultDTO result = newBulkResult(dtos);
+ 
+        List<Asset> toInsert = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            AssetRequestDTO dto = dtos.get(i);
+            String error = validate(dto);
+            if (error != null) {
+                result.getErrors().add(new AssetBulkResultDTO.ItemError(i, null, error));
+                continue;
+            }
+            Asset asset = new Asset();
+            asset.setName(dto.getName());
+            asset.setType(dto.getType());
+            asset.setLocation(dto.getLocation());
+            //default status
+            asset.setStatus(AssetStatus.ACTIVE);
+            toInsert.add(asset);
+        }
+ 
+        List<Asset> saved = batchRepo.insertAll(toInsert);
+        return completeBulk(result, saved, AssetChangeEvent.ChangeType.CREATED);
+    }
+ 
+    // Assets are loaded with one IN query; the dirty rows are flushed as batched UPDATEs
+    @Override
+    @Transactional
+    public AssetBulkResultDTO updateAssets(List<AssetBulkUpdateDTO> dtos) {
+        AssetBulkResultDTO result = newBulkResult(dtos);
+        Map<Long, Asset> existing = loadExisting(dtos.stream()
+                .filter(Objects::nonNull)
+                .map(AssetBulkUpdateDTO::getAssetId)
+                .collect(Collectors.toList()));
+ 
+        Set<Long> seen = new HashSet<>();
+        List<Asset> updated = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            AssetBulkUpdateDTO dto = dtos.get(i);
+            String error = validate(dto);
+            if (error == null) {
+                error = validateExisting(dto.getAssetId(), existing, seen);
+            }
+            if (error != null) {
+                result.getErrors().add(new AssetBulkResultDTO.ItemError(i, dto != null ? dto.getAssetId() : null, error));
+                continue;
+            }
+            Asset asset = existing.get(dto.getAssetId());
+            asset.setName(dto.getName());
+            asset.setType(dto.getType());
+            asset.setLocation(dto.getLocation());
+            if (dto.getStatus() != null) {
+                asset.setStatus(dto.getStatus());
+            }
+            updated.add(asset);
+        }
+ 
+        repo.flush();
+        return completeBulk(result, updated, AssetChangeEvent.ChangeType.UPDATED);
+    }
+ 
+    @Override
+    @Transactional
+    public AssetBulkResultDTO changeStatus(AssetStatusChangeDTO dto) {
+        if (dto == null || dto.getStatus() == null) {
+            throw new InvalidAssetDataException("Asset status is required");
+        }
+        List<Long> ids = dto.getAssetIds() != null ? dto.getAssetIds() : List.of();
+        AssetBulkResultDTO result = newBulkResult(ids);
+        Map<Long, Asset> existing = loadExisting(ids);
+ 
+        Set<Long> seen = new HashSet<>();
+        List<Asset> updated = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String error = validateExisting(ids.get(i), existing, seen);
+            if (error != null) {
+                result.getErrors().add(new AssetBulkResultDTO.ItemError(i, ids.get(i), error));
+                continue;
+            }
+            Asset asset = existing.get(ids.get(i));
+            asset.setStatus(dto.getStatus());
+            updated.add(asset);
+        }
+ 
+        repo.flush();
+        return completeBulk(result, updated, AssetChangeEvent.ChangeType.UPDATED);
+    }
+ 
+    private AssetBulkResultDTO newBulkResult(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidAssetDataException("Bulk request must contain at least one asset");
+        }
+        if (items.size() > MAX_BULK_ITEMS) {
+            throw new InvalidAssetDataException("Bulk request cannot exceed " + MAX_BULK_ITEMS + " assets");
+        }
+        AssetBulkResultDTO result = new AssetBulkResultDTO();
+        result.setRequested(items.size());
+        return result;
+    }
+ 
+    // One change event for the whole batch, delivered to the registry and consumers after commit
+    private AssetBulkResultDTO completeBulk(AssetBulkResultDTO result, List<Asset> written,
+                                            AssetChangeEvent.ChangeType type) {
+        if (!written.isEmpty()) {
+            events.publishEvent(new AssetChangeEvent(type,
+                    written.stream().map(Asset::getAssetId).collect(Collectors.toList())));
+        }
+        result.setSucceeded(written.stream().map(this::map).collect(Collectors.toList()));
+        return result;
+    }
+ 
+    private Map<Long, Asset> loadExisting(List<Long> ids) {
+        Set<Long> distinctIds = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        return repo.findAllById(distinctIds)
+                   .stream()
+                   .collect(Collectors.toMap(Asset::getAssetId, Function.identity()));
+    }
+ 
+    private static String validateExisting(Long assetId, Map<Long, Asset> existing, Set<Long> seen) {
+        if (assetId == null) {
+            return "Asset id is required";
+        }
+        if (!existing.containsKey(assetId)) {
+            return "Asset not found with id " + assetId;
+        }
+        if (!seen.add(assetId)) {
+            return "Asset id " + assetId + " appears more than once";
+        }
+        return null;
+    }
+ 
+    // Same rules as the single create/update endpoints
+    private static String validate(AssetRequestDTO dto) {
+        if (dto == null) {
+            return "Asset data is required";
+        }
+        if (dto.getName() == null || dto.getName().trim().isEmpty()) {
+            return "Asset name cannot be empty";
+        }
+        if (dto.getType() == null) {
+            return "Asset type is required";
+        }
+        return null;
+    }
+ 
     @Override
     public int getCount() {
-        return (int) repo.count();
+        return registry.getSnapshot().size();
+    }
+ 
+    //counts by type x status (one GROUP BY, cached per registry version)
+    @Override
+    public AssetStatsDTO getStats() {
+        // Read the version before querying so the cached counts are never older than their version
+        long version = registry.getSnapshot().getVersion();
+        CachedStats cached = cachedStats;
+        if (cached != null && cached.version() == version) {
+            return cached.stats();
+        }
+ 
+        AssetStatsDTO stats = new AssetStatsDTO();
+        for (AssetType type : AssetType.values()) {
+            Map<AssetStatus, Long> statuses = new EnumMap<>(AssetStatus.class);
+            for (AssetStatus status : AssetStatus.values()) {
+                statuses.put(status, 0L);
+                stats.getByStatus().put(status, 0L);
+            }
+            stats.getByTypeAndStatus().put(type, statuses);
+            stats.getByType().put(type, 0L);
+        }
+        for (AssetRepository.TypeStatusCount row : repo.countByTypeAndStatus()) {
+            if (row.getType() == null || row.getStatus() == null) {
+                continue;
+            }
+            stats.getByTypeAndStatus().get(row.getType()).put(row.getStatus(), row.getCount());
+            stats.getByType().merge(row.getType(), row.getCount(), Long::sum);
+            stats.getByStatus().merge(row.getStatus(), row.getCount(), Long::sum);
+            stats.setTotal(stats.getTotal() + row.getCount());
+        }
+ 
+        cachedStats = new CachedStats(version, stats);
+        return stats;
     }
 }  
  
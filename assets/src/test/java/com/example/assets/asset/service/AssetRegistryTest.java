@@ -0,0 +1,177 @@
+package com.example.assets.asset.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.assets.asset.dto.AssetChangesDTO;
+import com.example.assets.asset.dto.AssetResponseDTO;
+import com.example.assets.asset.entity.Asset;
+import com.example.assets.asset.enums.AssetStatus;
+import com.example.assets.asset.enums.AssetType;
+import com.example.assets.asset.event.AssetChangeEvent;
+import com.example.assets.asset.repository.AssetRepository;
+
+class AssetRegistryTest {
+
+    // In-memory stand-in for the assets table
+    private final Map<Long, Asset> table = new TreeMap<>();
+
+    private AssetRegistry registry;
+    private String registryId;
+    private long initialVersion;
+
+    @BeforeEach
+    void setUp() {
+        AssetRepository repo = mock(AssetRepository.class);
+        when(repo.findAll()).thenAnswer(invocation -> new ArrayList<>(table.values()));
+        when(repo.findAllById(any())).thenAnswer(invocation -> {
+            List<Asset> found = new ArrayList<>();
+            for (Long assetId : invocation.<Iterable<Long>>getArgument(0)) {
+                if (table.containsKey(assetId)) {
+                    found.add(table.get(assetId));
+                }
+            }
+            return found;
+        });
+
+        for (long id = 1; id <= 3; id++) {
+            put(id, "Asset " + id);
+        }
+        registry = new AssetRegistry(repo);
+        registryId = registry.getSnapshot().getRegistryId();
+        initialVersion = registry.getSnapshot().getVersion();
+    }
+
+    @Test
+    void upToDateClientGetsEmptyDelta() {
+        AssetChangesDTO changes = registry.getChangesSince(registryId, initialVersion);
+
+        assertFalse(changes.isFullResync());
+        assertTrue(changes.getChanged().isEmpty());
+        assertTrue(changes.getDeleted().isEmpty());
+        assertEquals(initialVersion, changes.getVersion());
+        assertEquals(registryId, changes.getRegistryId());
+    }
+
+    @Test
+    void deltaHoldsChangedAndDeletedAssetsOnce() {
+        put(4L, "Asset 4");
+        registry.onAssetChange(AssetChangeEvent.of(AssetChangeEvent.ChangeType.CREATED, 4L));
+        put(1L, "Renamed");
+        registry.onAssetChange(AssetChangeEvent.of(AssetChangeEvent.ChangeType.UPDATED, 1L));
+        put(1L, "Renamed twice");
+        registry.onAssetChange(AssetChangeEvent.of(AssetChangeEvent.ChangeType.UPDATED, 1L));
+        table.remove(2L);
+        registry.onAssetChange(AssetChangeEvent.of(AssetChangeEvent.ChangeType.DELETED, 2L));
+
+        AssetChangesDTO changes = registry.getChangesSince(registryId, initialVersion);
+
+        assertFalse(changes.isFullResync());
+        assertEquals(initialVersion + 4, changes.getVersion());
+        assertEquals(List.of(1L, 4L), sortedIds(changes.getChanged()));
+        assertEquals("Renamed twice", changes.getChanged().stream()
+                .filter(asset -> asset.getAssetId() == 1L).findFirst().orElseThrow().getName());
+        assertEquals(List.of(2L), changes.getDeleted());
+
+        // Only what happened after the given version
+        AssetChangesDTO later = registry.getChangesSince(registryId, initialVersion + 3);
+        assertTrue(later.getChanged().isEmpty());
+        assertEquals(List.of(2L), later.getDeleted());
+    }
+
+    @Test
+    void versionFromAnotherInstanceGetsFullResync() {
+        AssetChangesDTO changes = registry.getChangesSince("other-instance", initialVersion);
+
+        assertTrue(changes.isFullResync());
+        assertEquals(List.of(1L, 2L, 3L), sortedIds(changes.getChanged()));
+    }
+
+    @Test
+    void versionWithoutRegistryIdGetsDeltaInsideTheRetainedWindow() {
+        assertFalse(registry.getChangesSince(null, initialVersion).isFullResync());
+
+        put(1L, "Renamed");
+        registry.onAssetChange(AssetChangeEvent.of(AssetChangeEvent.ChangeType.UPDATED, 1L));
+
+        AssetChangesDTO changes = registry.getChangesSince(null, initialVersion);
+        assertFalse(changes.isFullResync());
+        assertEquals(List.of(1L), sortedIds(changes.getChanged()));
+
+        // Outside the window the version cannot be from this instance's log
+        assertTrue(registry.getChangesSince(null, initialVersion - 1).isFullResync());
+        assertTrue(registry.getChangesSince(null, initialVersion + 2).isFullResync());
+    }
+
+    @Test
+    void versionAheadOfThisInstanceGetsFullResync() {
+        AssetChangesDTO changes = registry.getChangesSince(registryId, initialVersion + 1);
+
+        assertTrue(changes.isFullResync());
+        assertEquals(3, changes.getChanged().size());
+    }
+
+    @Test
+    void versionTrimmedFromTheLogGetsFullResync() {
+        // One version with 10,000 changes fills the log; the next write trims its first entry
+        List<Long> manyIds = new ArrayList<>();
+        for (long id = 100; id < 10_100; id++) {
+            put(id, "Bulk " + id);
+            manyIds.add(id);
+        }
+        registry.onAssetChange(new AssetChangeEvent(AssetChangeEvent.ChangeType.CREATED, manyIds));
+        put(1L, "Renamed");
+        registry.onAssetChange(AssetChangeEvent.of(AssetChangeEvent.ChangeType.UPDATED, 1L));
+
+        AssetChangesDTO stale = registry.getChangesSince(registryId, initialVersion);
+        assertTrue(stale.isFullResync());
+        assertEquals(10_003, stale.getChanged().size());
+
+        // The partially trimmed version is the oldest that can still be answered incrementally
+        AssetChangesDTO recent = registry.getChangesSince(registryId, initialVersion + 1);
+        assertFalse(recent.isFullResync());
+        assertEquals(List.of(1L), sortedIds(recent.getChanged()));
+    }
+
+    @Test
+    void assetTagsChangeOnlyForTheWrittenAsset() {
+        String tag1 = registry.getSnapshot().getTag(1L);
+        String tag2 = registry.getSnapshot().getTag(2L);
+
+        put(1L, "Renamed");
+        registry.onAssetChange(AssetChangeEvent.of(AssetChangeEvent.ChangeType.UPDATED, 1L));
+
+        assertNotEquals(tag1, registry.getSnapshot().getTag(1L));
+        assertEquals(tag2, registry.getSnapshot().getTag(2L));
+        assertNull(registry.getSnapshot().getTag(99L));
+    }
+
+    private void put(Long assetId, String name) {
+        Asset asset = new Asset();
+        asset.setAssetId(assetId);
+        asset.setName(name);
+        asset.setType(AssetType.RIG);
+        asset.setLocation("North Field");
+        asset.setStatus(AssetStatus.ACTIVE);
+        table.put(assetId, asset);
+    }
+
+    private static List<Long> sortedIds(List<AssetResponseDTO> assets) {
+        return assets.stream().map(AssetResponseDTO::getAssetId).sorted().collect(Collectors.toList());
+    }
+}
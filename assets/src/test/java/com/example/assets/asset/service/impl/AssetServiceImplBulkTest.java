@@ -0,0 +1,172 @@
+package com.example.assets.asset.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.example.assets.asset.dto.AssetBulkResultDTO;
+import com.example.assets.asset.dto.AssetRequestDTO;
+import com.example.assets.asset.dto.AssetResponseDTO;
+import com.example.assets.asset.dto.AssetStatusChangeDTO;
+import com.example.assets.asset.entity.Asset;
+import com.example.assets.asset.enums.AssetStatus;
+import com.example.assets.asset.enums.AssetType;
+import com.example.assets.asset.event.AssetChangeEvent;
+import com.example.assets.asset.exception.InvalidAssetDataException;
+import com.example.assets.asset.repository.AssetBatchRepository;
+import com.example.assets.asset.repository.AssetRepository;
+import com.example.assets.asset.service.AssetRegistry;
+
+class AssetServiceImplBulkTest {
+
+    private AssetRepository repo;
+    private ApplicationEventPublisher events;
+    private AssetBatchRepository batchRepo;
+    private AssetServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(AssetRepository.class);
+        events = mock(ApplicationEventPublisher.class);
+        batchRepo = mock(AssetBatchRepository.class);
+        service = new AssetServiceImpl(repo, events, mock(AssetRegistry.class), batchRepo);
+
+        // Hands out ids in insertion order, like the generated keys of the JDBC batch
+        AtomicLong nextId = new AtomicLong(1);
+        when(batchRepo.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Asset> assets = invocation.getArgument(0);
+            assets.forEach(asset -> asset.setAssetId(nextId.getAndIncrement()));
+            return assets;
+        });
+    }
+
+    @Test
+    void rejectsMoreThanOneThousandItems() {
+        List<AssetRequestDTO> dtos = requests(1001);
+
+        assertThrows(InvalidAssetDataException.class, () -> service.createAssets(dtos));
+        verifyNoInteractions(batchRepo, events);
+    }
+
+    @Test
+    void acceptsExactlyOneThousandItemsWithOneEvent() {
+        AssetBulkResultDTO result = service.createAssets(requests(1000));
+
+        assertEquals(1000, result.getRequested());
+        assertEquals(1000, result.getSucceeded().size());
+        assertTrue(result.getErrors().isEmpty());
+        verify(batchRepo, times(1)).insertAll(anyList());
+        assertEquals(1000, publishedEvent().getAssetIds().size());
+    }
+
+    @Test
+    void rejectsEmptyRequests() {
+        assertThrows(InvalidAssetDataException.class, () -> service.createAssets(List.of()));
+        assertThrows(InvalidAssetDataException.class, () -> service.createAssets(null));
+        assertThrows(InvalidAssetDataException.class, () -> service.updateAssets(List.of()));
+        verifyNoInteractions(batchRepo, events);
+    }
+
+    @Test
+    void reportsInvalidItemsByIndexAndInsertsTheRest() {
+        AssetRequestDTO blankName = request("  ");
+        AssetRequestDTO noType = request("No type");
+        noType.setType(null);
+        List<AssetRequestDTO> dtos = Arrays.asList(request("Well A"), blankName, noType, null, request("Well B"));
+
+        AssetBulkResultDTO result = service.createAssets(dtos);
+
+        assertEquals(5, result.getRequested());
+        assertEquals(List.of(1, 2, 3), result.getErrors().stream()
+                .map(AssetBulkResultDTO.ItemError::getIndex).collect(Collectors.toList()));
+        assertEquals(List.of("Well A", "Well B"), result.getSucceeded().stream()
+                .map(AssetResponseDTO::getName).collect(Collectors.toList()));
+        assertEquals(List.of(1L, 2L), publishedEvent().getAssetIds());
+    }
+
+    @Test
+    void noEventWhenEveryItemIsInvalid() {
+        AssetBulkResultDTO result = service.createAssets(List.of(request(""), request(" ")));
+
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.getSucceeded().isEmpty());
+        verify(events, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void statusChangeReportsUnknownDuplicateAndMissingIds() {
+        when(repo.findAllById(any())).thenReturn(List.of(asset(1L), asset(2L)));
+
+        AssetStatusChangeDTO dto = new AssetStatusChangeDTO();
+        dto.setAssetIds(Arrays.asList(1L, 99L, 2L, 1L, null));
+        dto.setStatus(AssetStatus.INACTIVE);
+
+        AssetBulkResultDTO result = service.changeStatus(dto);
+
+        assertEquals(List.of(1, 3, 4), result.getErrors().stream()
+                .map(AssetBulkResultDTO.ItemError::getIndex).collect(Collectors.toList()));
+        assertEquals(2, result.getSucceeded().size());
+        assertTrue(result.getSucceeded().stream().allMatch(asset -> asset.getStatus() == AssetStatus.INACTIVE));
+        assertEquals(List.of(1L, 2L), publishedEvent().getAssetIds());
+        verify(repo).flush();
+    }
+
+    @Test
+    void statusChangeRequiresAStatus() {
+        AssetStatusChangeDTO dto = new AssetStatusChangeDTO();
+        dto.setAssetIds(List.of(1L));
+
+        assertThrows(InvalidAssetDataException.class, () -> service.changeStatus(dto));
+        verifyNoInteractions(events);
+    }
+
+    private AssetChangeEvent publishedEvent() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(events, times(1)).publishEvent(captor.capture());
+        return (AssetChangeEvent) captor.getValue();
+    }
+
+    private static List<AssetRequestDTO> requests(int count) {
+        List<AssetRequestDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            dtos.add(request("Well " + i));
+        }
+        return dtos;
+    }
+
+    private static AssetRequestDTO request(String name) {
+        AssetRequestDTO dto = new AssetRequestDTO();
+        dto.setName(name);
+        dto.setType(AssetType.PIPELINE);
+        dto.setLocation("North Field");
+        return dto;
+    }
+
+    private static Asset asset(Long assetId) {
+        Asset asset = new Asset();
+        asset.setAssetId(assetId);
+        asset.setName("Asset " + assetId);
+        asset.setType(AssetType.STORAGE);
+        asset.setStatus(AssetStatus.ACTIVE);
+        return asset;
+    }
+}
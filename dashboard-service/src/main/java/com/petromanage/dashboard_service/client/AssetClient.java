@@ -3,13 +3,23 @@ package com.petromanage.dashboard_service.client;
 import java.util.List;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 
+import com.petromanage.dashboard_service.dto.AssetStatsDto;
 import com.petromanage.dashboard_service.dto.AssetStatusDto;
 
 // Matches "ASSETS-SERVICE" from your Eureka logs
 @FeignClient(name = "ASSETS-SERVICE") 
 public interface AssetClient {
+    // Send the last ETag to get a 304 (surfaced as FeignException) when nothing changed
     @GetMapping("/api/assets") 
-    List<AssetStatusDto> getAllAssets();
+    ResponseEntity<List<AssetStatusDto>> getAllAssets(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+    // Constant-size counts per type x status, used for the utilization metric
+    @GetMapping("/api/assets/stats")
+    AssetStatsDto getAssetStats();
 }
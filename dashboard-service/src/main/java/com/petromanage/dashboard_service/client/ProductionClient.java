@@ -1,14 +1,21 @@
 package com.petromanage.dashboard_service.client;
 
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import com.petromanage.dashboard_service.dto.ProductionTotalDto;
+import com.petromanage.dashboard_service.dto.ProductionTrendSeriesDto;
+
 // Matches "PRODUCTION-SERVICE" from your Eureka logs
 @FeignClient(name = "PRODUCTION-SERVICE")
 public interface ProductionClient {
-    @GetMapping("/api/production/records")
-    List<Map<String, Object>> getProductionRecords();
+    // Actual and planned volume per asset, maintained by the production service as records are written
+    @GetMapping("/api/production/totals/assets")
+    List<ProductionTotalDto> getAssetTotals();
+
+    // Bucket size is chosen by the production service from the range it covers
+    @GetMapping("/api/production/trends")
+    ProductionTrendSeriesDto getProductionTrends();
 }
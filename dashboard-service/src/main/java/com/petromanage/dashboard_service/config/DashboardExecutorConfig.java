@@ -0,0 +1,30 @@
+package com.petromanage.dashboard_service.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class DashboardExecutorConfig {
+
+    // Bounded pool used to fan out the downstream service calls in parallel
+    @Bean(name = "dashboardFetchExecutor")
+    public ThreadPoolTaskExecutor dashboardFetchExecutor(
+            @Value("${dashboard.fetch.pool-size:8}") int poolSize,
+            @Value("${dashboard.fetch.queue-capacity:64}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-fetch-");
+        // When saturated, reject instead of running on the request thread (where no deadline applies);
+        // DashboardService reports a rejected call as a partial section
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,25 +1,34 @@
 package com.petromanage.dashboard_service.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.petromanage.dashboard_service.dto.DashboardResponse;
-import com.petromanage.dashboard_service.service.DashboardService;
+import com.petromanage.dashboard_service.service.DashboardSnapshotService;
 
 
 @RestController
 @RequestMapping("/api/dashboard")
 // // @CrossOrigin is handled by the API Gateway, but useful for local testing
-// @CrossOrigin(origins = "http://localhost:5173") 
+// @CrossOrigin(origins = "http://localhost:5173")
 public class DashboardController {
 
     @Autowired
-    private DashboardService dashboardService;
+    private DashboardSnapshotService snapshotService;
 
     @GetMapping("/analytics")
-    public DashboardResponse getDashboardAnalytics() {
-        return dashboardService.generateDashboardData();
+    public ResponseEntity<DashboardResponse> getDashboardAnalytics() {
+        DashboardSnapshotService.Snapshot snapshot = snapshotService.getSnapshot();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, String.valueOf(snapshot.ageSeconds()))
+                .header("X-Dashboard-Snapshot-Age", String.valueOf(snapshot.ageSeconds()))
+                .header("X-Dashboard-Refreshing", String.valueOf(snapshot.refreshInFlight()))
+                // Sections the latest rebuild could not load, whether or not that rebuild is being served
+                .header("X-Dashboard-Refresh-Failed", String.join(",", snapshot.lastAttemptFailedSections()))
+                .body(snapshot.response());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.petromanage.dashboard_service.dto;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Data;
+
+// Counts served by ASSETS-SERVICE from one GROUP BY over type x status
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AssetStatsDto {
+    private long total;
+    private Map<String, Long> byStatus = new HashMap<>();
+}
@@ -11,4 +11,6 @@ public class DashboardResponse {
     private List<AssetStatusDto> assets;
     private List<MaintenancePredictionDto> maintenancePredictions;
     private List<RecentReportDto> recentReports;
+    // Sections that timed out or failed and were returned empty
+    private List<String> partialSections;
 }
\ No newline at end of file
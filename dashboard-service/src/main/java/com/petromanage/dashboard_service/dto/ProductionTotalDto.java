@@ -0,0 +1,15 @@
+package com.petromanage.dashboard_service.dto;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Data;
+
+// Running per-asset totals kept by PRODUCTION-SERVICE; one row per asset instead of every record.
+// Missing/null numbers decode to 0, which is neutral for the sums computed on this data.
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProductionTotalDto {
+    private long assetId;
+    private double actualVolume;
+    private double plannedVolume;
+    private long recordCount;
+}
@@ -0,0 +1,23 @@
+package com.petromanage.dashboard_service.dto;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Data;
+
+// Trend served by PRODUCTION-SERVICE from its rollup tables; dates are bucket start days
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProductionTrendSeriesDto {
+    private String granularity;
+    private List<Point> points = new ArrayList<>();
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Point {
+        private String date;
+        private double actualVolume;
+        private double plannedVolume;
+    }
+}
@@ -0,0 +1,17 @@
+package com.petromanage.dashboard_service.dto;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Data;
+
+// Decoded directly from MAINTENANCE-SERVICE; ids are primitive, 0 means "not present"
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WorkOrderDto {
+    private long workOrderId;
+    private long assetId;
+    private String assetName;
+    private String scheduledDate;
+    private String expectedCompletionDate;
+    private String priority;
+    private String status;
+}
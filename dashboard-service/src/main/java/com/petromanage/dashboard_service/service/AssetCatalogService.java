@@ -0,0 +1,52 @@
+package com.petromanage.dashboard_service.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.petromanage.dashboard_service.client.AssetClient;
+import com.petromanage.dashboard_service.dto.AssetStatusDto;
+
+import feign.FeignException;
+
+/**
+ * Revalidates the asset list with If-None-Match instead of downloading it on every dashboard build.
+ * An unchanged list costs a 304 header exchange; the last body is kept here and copied per call,
+ * because the dashboard writes utilization into the returned objects.
+ */
+@Service
+public class AssetCatalogService {
+
+    @Autowired private AssetClient assetClient;
+
+    private record Cached(String etag, List<AssetStatusDto> assets) {}
+
+    private volatile Cached cached;
+
+    public List<AssetStatusDto> getAllAssets() {
+        Cached last = cached;
+        try {
+            ResponseEntity<List<AssetStatusDto>> response =
+                    assetClient.getAllAssets(last != null ? last.etag() : null);
+            List<AssetStatusDto> assets = response.getBody() != null ? response.getBody() : List.of();
+            String etag = response.getHeaders().getETag();
+            cached = etag != null ? new Cached(etag, assets) : null;
+            return copy(assets);
+        } catch (FeignException e) {
+            if (e.status() == HttpStatus.NOT_MODIFIED.value() && last != null) {
+                return copy(last.assets());
+            }
+            throw e;
+        }
+    }
+
+    private static List<AssetStatusDto> copy(List<AssetStatusDto> assets) {
+        return assets.stream()
+                .map(a -> new AssetStatusDto(a.getAssetId(), a.getName(), a.getUtilization(), a.getStatus()))
+                .collect(Collectors.toList());
+    }
+}
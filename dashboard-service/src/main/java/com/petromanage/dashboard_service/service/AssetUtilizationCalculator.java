@@ -0,0 +1,49 @@
+package com.petromanage.dashboard_service.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.petromanage.dashboard_service.dto.AssetStatusDto;
+import com.petromanage.dashboard_service.dto.ProductionTotalDto;
+
+/**
+ * Computes per-asset utilization (actual vs planned volume) from the production service's
+ * per-asset totals. Totals are indexed by asset ID once, then joined to the asset list,
+ * so the cost is O(assets + totals) instead of O(assets x totals).
+ */
+public final class AssetUtilizationCalculator {
+
+    private AssetUtilizationCalculator() {
+    }
+
+    public static void applyUtilization(List<AssetStatusDto> assets, List<ProductionTotalDto> assetTotals) {
+        if (assets.isEmpty() || assetTotals.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ProductionTotalDto> totalsByAsset = indexByAsset(assetTotals);
+
+        for (AssetStatusDto asset : assets) {
+            ProductionTotalDto totals = asset.getAssetId() != null ? totalsByAsset.get(asset.getAssetId()) : null;
+
+            int assetUtilization = 0;
+            if (totals != null && totals.getPlannedVolume() > 0) {
+                double assetUtil = (totals.getActualVolume() / totals.getPlannedVolume()) * 100;
+                // Cap at 100% for individual assets (realistic display)
+                assetUtilization = (int) Math.min(100, Math.round(assetUtil));
+            }
+            asset.setUtilization(assetUtilization);
+        }
+    }
+
+    static Map<Long, ProductionTotalDto> indexByAsset(List<ProductionTotalDto> assetTotals) {
+        Map<Long, ProductionTotalDto> totalsByAsset = new HashMap<>();
+
+        for (ProductionTotalDto totals : assetTotals) {
+            totalsByAsset.put(totals.getAssetId(), totals);
+        }
+
+        return totalsByAsset;
+    }
+}
@@ -1,191 +1,116 @@
 package com.petromanage.dashboard_service.service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.petromanage.dashboard_service.client.AssetClient;
 import com.petromanage.dashboard_service.client.ComplianceClient;
 import com.petromanage.dashboard_service.client.MaintenanceClient;
 import com.petromanage.dashboard_service.client.ProductionClient;
+import com.petromanage.dashboard_service.dto.AssetStatsDto;
 import com.petromanage.dashboard_service.dto.AssetStatusDto;
 import com.petromanage.dashboard_service.dto.CurrentMetricsDto;
 import com.petromanage.dashboard_service.dto.DashboardResponse;
 import com.petromanage.dashboard_service.dto.MaintenancePredictionDto;
+import com.petromanage.dashboard_service.dto.ProductionTotalDto;
 import com.petromanage.dashboard_service.dto.ProductionTrendDto;
+import com.petromanage.dashboard_service.dto.ProductionTrendSeriesDto;
 import com.petromanage.dashboard_service.dto.RecentReportDto;
+import com.petromanage.dashboard_service.dto.WorkOrderDto;
 
 @Service
 public class DashboardService {
 
+    @Autowired private AssetCatalogService assetCatalog;
     @Autowired private AssetClient assetClient;
     @Autowired private MaintenanceClient maintenanceClient;
     @Autowired private ProductionClient productionClient;
     @Autowired private ComplianceClient complianceClient;
 
+    @Autowired
+    @Qualifier("dashboardFetchExecutor")
+    private Executor fetchExecutor;
+
+    // Deadline applied to each downstream call individually
+    @Value("${dashboard.fetch.timeout-ms:3000}")
+    private long fetchTimeoutMs;
+
     public DashboardResponse generateDashboardData() {
         DashboardResponse response = new DashboardResponse();
         
-        // 1. Fetch Data Safely 
-        // We use empty lists as default so the dashboard doesn't crash if one service is down
-        List<AssetStatusDto> assets = new ArrayList<>();
-        List<Map<String, Object>> workOrders = new ArrayList<>();
-        List<Map<String, Object>> productionRecords = new ArrayList<>();
-        List<RecentReportDto> reports = new ArrayList<>();
-
-        // FETCH ASSETS
-        try { 
-            assets = assetClient.getAllAssets(); 
-        } catch (Exception e) { 
-            System.err.println("⚠️ ASSET-SERVICE is down or empty: " + e.getMessage()); 
-        }
-
-        // FETCH MAINTENANCE
-        try { 
-            workOrders = maintenanceClient.getAllWorkOrders(); 
-        } catch (Exception e) { 
-            System.err.println("⚠️ MAINTENANCE-SERVICE is down or empty: " + e.getMessage()); 
-        }
-
-        // FETCH PRODUCTION
-        try { 
-            productionRecords = productionClient.getProductionRecords(); 
-        } catch (Exception e) { 
-            System.err.println("⚠️ PRODUCTION-SERVICE is down or empty: " + e.getMessage()); 
-        }
-
-        // FETCH COMPLIANCE
-        try { 
-            reports = complianceClient.getAllReports(); 
-        } catch (Exception e) { 
-            System.err.println("⚠️ COMPLIANCE-SERVICE is down or empty: " + e.getMessage()); 
-        }
+        // 1. Fetch Data in Parallel
+        // All four services are called concurrently, each with its own deadline.
+        // A section that fails or times out degrades to an empty list and is reported as partial.
+        CompletableFuture<List<AssetStatusDto>> assetsFuture =
+                fetchAsync("ASSET-SERVICE", assetCatalog::getAllAssets);
+        CompletableFuture<List<AssetStatsDto>> assetStatsFuture =
+                fetchAsync("ASSET-SERVICE", () -> List.of(assetClient.getAssetStats()));
+        CompletableFuture<List<WorkOrderDto>> workOrdersFuture =
+                fetchAsync("MAINTENANCE-SERVICE", maintenanceClient::getAllWorkOrders);
+        CompletableFuture<List<ProductionTotalDto>> productionFuture =
+                fetchAsync("PRODUCTION-SERVICE", productionClient::getAssetTotals);
+        CompletableFuture<List<ProductionTrendSeriesDto.Point>> trendFuture =
+                fetchAsync("PRODUCTION-SERVICE", () -> productionClient.getProductionTrends().getPoints());
+        CompletableFuture<List<RecentReportDto>> reportsFuture =
+                fetchAsync("COMPLIANCE-SERVICE", complianceClient::getAllReports);
+
+        List<String> partialSections = new ArrayList<>();
+        List<AssetStatusDto> assets = resolve(assetsFuture, "assets", partialSections);
+        List<AssetStatsDto> assetStats = resolve(assetStatsFuture, "assetStats", partialSections);
+        List<WorkOrderDto> workOrders = resolve(workOrdersFuture, "maintenance", partialSections);
+        List<ProductionTotalDto> assetTotals = resolve(productionFuture, "production", partialSections);
+        List<RecentReportDto> reports = resolve(reportsFuture, "compliance", partialSections);
+        List<ProductionTrendSeriesDto.Point> trendPoints = resolve(trendFuture, "productionTrends", partialSections);
+
+        response.setPartialSections(partialSections);
 
         // 2. Calculate Metrics from Real Data
         CurrentMetricsDto metrics = new CurrentMetricsDto();
 
-        // A. Asset Utilization
-        long totalAssets = assets.size();
-        long activeAssets = assets.stream().filter(a -> {
-            String status = a.getStatus();
-            return status != null && (
-                status.equalsIgnoreCase("OPERATIONAL") || 
-                status.equalsIgnoreCase("ACTIVE")
-            );
-        }).count();
-        double util = totalAssets > 0 ? ((double)activeAssets / totalAssets) * 100 : 0;
+        // A. Asset Utilization (active share from the asset service's grouped counts)
+        double util = 0;
+        if (!assetStats.isEmpty() && assetStats.get(0).getTotal() > 0) {
+            long activeAssets = assetStats.get(0).getByStatus().getOrDefault("ACTIVE", 0L);
+            util = ((double) activeAssets / assetStats.get(0).getTotal()) * 100;
+        }
         metrics.setAssetUtilization(Math.round(util * 10.0) / 10.0);
         metrics.setUtilizationChange(0.0); 
 
-        // B. Production Efficiency (Real calculation from production records)
+        // B. Production Efficiency (from the production service's running per-asset totals)
         double productionEfficiency = 0.0;
-        System.out.println("🔍 DEBUG: Production records count: " + productionRecords.size());
-        
-        if (!productionRecords.isEmpty()) {
-            double totalActual = 0.0;
-            double totalPlanned = 0.0;
-            
-            for (Map<String, Object> record : productionRecords) {
-                System.out.println("🔍 DEBUG: Production record: " + record);
-                
-                // Get actual volume from record
-                Object actualVolumeObj = record.get("actualVolume");
-                if (actualVolumeObj != null) {
-                    double actualVolume = actualVolumeObj instanceof Double ? 
-                        (Double) actualVolumeObj : 
-                        Double.parseDouble(actualVolumeObj.toString());
-                    totalActual += actualVolume;
-                    System.out.println("✅ DEBUG: Added actual volume: " + actualVolume + ", Total actual: " + totalActual);
-                }
-                
-                // Get planned volume from dailyPlannedTarget field
-                Object plannedTargetObj = record.get("dailyPlannedTarget");
-                System.out.println("🔍 DEBUG: dailyPlannedTarget object: " + plannedTargetObj);
-                
-                if (plannedTargetObj != null) {
-                    double plannedVolume = plannedTargetObj instanceof Double ? 
-                        (Double) plannedTargetObj : 
-                        Double.parseDouble(plannedTargetObj.toString());
-                    totalPlanned += plannedVolume;
-                    System.out.println("✅ DEBUG: Added planned volume: " + plannedVolume + ", Total planned: " + totalPlanned);
-                } else {
-                    System.out.println("⚠️ DEBUG: dailyPlannedTarget is null");
-                }
-            }
-            
-            System.out.println("📊 DEBUG: Total Actual: " + totalActual + ", Total Planned: " + totalPlanned);
-            
-            // Calculate overall efficiency
-            if (totalPlanned > 0) {
-                productionEfficiency = (totalActual / totalPlanned) * 100;
-                productionEfficiency = Math.round(productionEfficiency * 10.0) / 10.0; // Round to 1 decimal
-                System.out.println("✅ DEBUG: Production Efficiency: " + productionEfficiency + "%");
-            } else {
-                System.out.println("⚠️ DEBUG: Total planned is 0, cannot calculate efficiency");
-            }
-        } else {
-            System.out.println("⚠️ DEBUG: No production records found");
+        double totalActual = 0.0;
+        double totalPlanned = 0.0;
+        for (ProductionTotalDto totals : assetTotals) {
+            totalActual += totals.getActualVolume();
+            totalPlanned += totals.getPlannedVolume();
+        }
+        if (totalPlanned > 0) {
+            productionEfficiency = (totalActual / totalPlanned) * 100;
+            productionEfficiency = Math.round(productionEfficiency * 10.0) / 10.0; // Round to 1 decimal
         }
         
         metrics.setProductionEfficiency(productionEfficiency); 
         metrics.setEfficiencyChange(0.0); // TODO: Calculate change from previous period
 
-        // Calculate individual asset utilization from production records
-        if (!assets.isEmpty() && !productionRecords.isEmpty()) {
-            for (AssetStatusDto asset : assets) {
-                // Find production records for this asset
-                double assetActual = 0.0;
-                double assetPlanned = 0.0;
-                
-                for (Map<String, Object> record : productionRecords) {
-                    Object assetIdObj = record.get("assetId");
-                    if (assetIdObj != null) {
-                        Long recordAssetId = assetIdObj instanceof Long ? 
-                            (Long) assetIdObj : 
-                            Long.parseLong(assetIdObj.toString());
-                        
-                        if (recordAssetId.equals(asset.getAssetId())) {
-                            // Sum actual volume for this asset
-                            Object actualVolumeObj = record.get("actualVolume");
-                            if (actualVolumeObj != null) {
-                                double actualVolume = actualVolumeObj instanceof Double ? 
-                                    (Double) actualVolumeObj : 
-                                    Double.parseDouble(actualVolumeObj.toString());
-                                assetActual += actualVolume;
-                            }
-                            
-                            // Sum planned volume for this asset
-                            Object plannedTargetObj = record.get("dailyPlannedTarget");
-                            if (plannedTargetObj != null) {
-                                double plannedVolume = plannedTargetObj instanceof Double ? 
-                                    (Double) plannedTargetObj : 
-                                    Double.parseDouble(plannedTargetObj.toString());
-                                assetPlanned += plannedVolume;
-                            }
-                        }
-                    }
-                }
-                
-                // Calculate utilization for this asset
-                int assetUtilization = 0;
-                if (assetPlanned > 0) {
-                    double assetUtil = (assetActual / assetPlanned) * 100;
-                    // Cap at 100% for individual assets (realistic display)
-                    assetUtilization = (int) Math.min(100, Math.round(assetUtil));
-                }
-                asset.setUtilization(assetUtilization);
-                System.out.println("✅ DEBUG: Asset " + asset.getName() + " utilization: " + assetUtilization + "%");
-            }
-        }
+        // Calculate individual asset utilization from the same totals (single-pass hash join)
+        AssetUtilizationCalculator.applyUtilization(assets, assetTotals);
 
         // C. Maintenance Due (Count work orders NOT completed)
         long dueCount = workOrders.stream().filter(w -> {
-            String status = (String) w.get("status");
+            String status = w.getStatus();
             return status != null && !status.equalsIgnoreCase("COMPLETED");
         }).count();
         metrics.setMaintenanceDue((int) dueCount);
@@ -196,54 +121,17 @@ public class DashboardService {
         response.setAssets(assets);
         response.setRecentReports(reports.stream().limit(5).collect(Collectors.toList()));
 
-        // 4. Production Trends from Real Production Records
+        // 4. Production Trends from the production service's rollup tables
         List<ProductionTrendDto> trends = new ArrayList<>();
         
-        if (!productionRecords.isEmpty()) {
-            // Group production records by date
-            Map<String, Double> actualByDate = new HashMap<>();
-            Map<String, Double> plannedByDate = new HashMap<>();
-            
-            for (Map<String, Object> record : productionRecords) {
-                Object dateObj = record.get("date");
-                if (dateObj != null) {
-                    String dateStr = dateObj.toString();
-                    
-                    // Get actual volume
-                    Object actualVolumeObj = record.get("actualVolume");
-                    if (actualVolumeObj != null) {
-                        double actualVolume = actualVolumeObj instanceof Double ? 
-                            (Double) actualVolumeObj : 
-                            Double.parseDouble(actualVolumeObj.toString());
-                        actualByDate.put(dateStr, actualByDate.getOrDefault(dateStr, 0.0) + actualVolume);
-                    }
-                    
-                    // Get planned volume
-                    Object plannedTargetObj = record.get("dailyPlannedTarget");
-                    if (plannedTargetObj != null) {
-                        double plannedVolume = plannedTargetObj instanceof Double ? 
-                            (Double) plannedTargetObj : 
-                            Double.parseDouble(plannedTargetObj.toString());
-                        plannedByDate.put(dateStr, plannedByDate.getOrDefault(dateStr, 0.0) + plannedVolume);
-                    }
-                }
+        if (!trendPoints.isEmpty()) {
+            for (ProductionTrendSeriesDto.Point point : trendPoints) {
+                trends.add(new ProductionTrendDto(
+                    point.getDate(), 
+                    Math.round(point.getActualVolume() * 10.0) / 10.0,
+                    Math.round(point.getPlannedVolume() * 10.0) / 10.0
+                ));
             }
-            
-            // Create trends sorted by date
-            actualByDate.keySet().stream()
-                .sorted()
-                .forEach(date -> {
-                    double actual = actualByDate.getOrDefault(date, 0.0);
-                    double planned = plannedByDate.getOrDefault(date, 0.0);
-                    
-                    trends.add(new ProductionTrendDto(
-                        date, 
-                        Math.round(actual * 10.0) / 10.0,
-                        Math.round(planned * 10.0) / 10.0
-                    ));
-                });
-            
-            System.out.println("✅ DEBUG: Generated " + trends.size() + " production trends from real data");
         } else {
             // Fallback to mock data if no production records
             trends.add(new ProductionTrendDto("2024-02-10", 850, 1000));
@@ -260,10 +148,9 @@ public class DashboardService {
         // Debug logging
         System.out.println("🔍 DEBUG: Total work orders fetched: " + workOrders.size());
         
-        for (Map<String, Object> workOrder : workOrders) {
+        for (WorkOrderDto workOrder : workOrders) {
             try {
-                String status = (String) workOrder.get("status");
-                System.out.println("🔍 DEBUG: Work Order - Status: " + status + ", Data: " + workOrder);
+                String status = workOrder.getStatus();
                 
                 // Show all work orders that need attention (not completed or cancelled)
                 if (status != null && 
@@ -272,42 +159,17 @@ public class DashboardService {
                      status.equalsIgnoreCase("SCHEDULED") ||
                      status.equalsIgnoreCase("OVERDUE"))) {
                     
-                    // Extract workOrderId
-                    Object workOrderIdObj = workOrder.get("workOrderId");
-                    Long workOrderId = null;
-                    if (workOrderIdObj != null) {
-                        if (workOrderIdObj instanceof Long) {
-                            workOrderId = (Long) workOrderIdObj;
-                        } else if (workOrderIdObj instanceof Integer) {
-                            workOrderId = ((Integer) workOrderIdObj).longValue();
-                        } else {
-                            workOrderId = Long.parseLong(workOrderIdObj.toString());
-                        }
-                    }
-                    
-                    Object assetIdObj = workOrder.get("assetId");
-                    Long assetId = null;
-                    if (assetIdObj != null) {
-                        if (assetIdObj instanceof Long) {
-                            assetId = (Long) assetIdObj;
-                        } else if (assetIdObj instanceof Integer) {
-                            assetId = ((Integer) assetIdObj).longValue();
-                        } else {
-                            assetId = Long.parseLong(assetIdObj.toString());
-                        }
-                    }
-                    
-                    String assetName = (String) workOrder.get("assetName");
+                    long workOrderId = workOrder.getWorkOrderId();
+                    long assetId = workOrder.getAssetId();
+                    String assetName = workOrder.getAssetName();
                     // Try both field names - scheduledDate or expectedCompletionDate
-                    String dueDate = (String) workOrder.get("expectedCompletionDate");
+                    String dueDate = workOrder.getExpectedCompletionDate();
                     if (dueDate == null || dueDate.isEmpty()) {
-                        dueDate = (String) workOrder.get("scheduledDate");
+                        dueDate = workOrder.getScheduledDate();
                     }
-                    String priority = (String) workOrder.get("priority");
+                    String priority = workOrder.getPriority();
                     
-                    System.out.println("🔍 DEBUG: Creating prediction - WorkOrderId: " + workOrderId + ", AssetId: " + assetId + ", AssetName: " + assetName + ", DueDate: " + dueDate + ", Priority: " + priority);
-                    
-                    if (workOrderId != null && assetId != null && assetName != null && dueDate != null && priority != null) {
+                    if (workOrderId > 0 && assetId > 0 && assetName != null && dueDate != null && priority != null) {
                         // Calculate confidence based on priority
                         int confidence = 85;
                         if (priority.equalsIgnoreCase("high")) {
@@ -326,7 +188,6 @@ public class DashboardService {
                             priority.toLowerCase(), 
                             confidence
                         ));
-                        System.out.println("✅ DEBUG: Prediction added successfully!");
                     }
                 }
             } catch (Exception e) {
@@ -354,4 +215,40 @@ public class DashboardService {
 
         return response;
     }
+
+    /* ================= PARALLEL FETCH HELPERS ================= */
+
+    // Runs one downstream call on the bounded executor; completes with null on failure, timeout,
+    // or when the pool is saturated. The Feign timeouts share the same deadline, so a call that
+    // timed out here does not keep holding a pool thread for long.
+    private <T> CompletableFuture<List<T>> fetchAsync(String serviceName, Supplier<List<T>> call) {
+        CompletableFuture<List<T>> future;
+        try {
+            future = CompletableFuture.supplyAsync(call, fetchExecutor);
+        } catch (RejectedExecutionException e) {
+            System.err.println("⚠️ " + serviceName + " skipped, fetch pool is saturated");
+            return CompletableFuture.completedFuture(null);
+        }
+        return future
+                .orTimeout(fetchTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        System.err.println("⚠️ " + serviceName + " timed out after " + fetchTimeoutMs + " ms");
+                    } else {
+                        System.err.println("⚠️ " + serviceName + " is down or empty: " + cause.getMessage());
+                    }
+                    return null;
+                });
+    }
+
+    // Unwraps a fetched section, falling back to an empty list and flagging the section as partial
+    private <T> List<T> resolve(CompletableFuture<List<T>> future, String section, List<String> partialSections) {
+        List<T> result = future.join();
+        if (result == null) {
+            partialSections.add(section);
+            return new ArrayList<>();
+        }
+        return result;
+    }
 }
\ No newline at end of file
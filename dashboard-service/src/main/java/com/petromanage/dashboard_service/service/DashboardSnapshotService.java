@@ -0,0 +1,130 @@
+package com.petromanage.dashboard_service.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.petromanage.dashboard_service.dto.DashboardResponse;
+
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class DashboardSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardSnapshotService.class);
+
+    @Autowired private DashboardService dashboardService;
+
+    // How long a snapshot is served before a background refresh is triggered
+    @Value("${dashboard.snapshot.ttl-ms:30000}")
+    private long ttlMs;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    // Single refresher thread, so at most one rebuild hits the downstream services at a time
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "dashboard-snapshot-refresher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // builtAtMillis is when the served response was built; lastAttemptMillis and lastAttemptFailedSections
+    // describe the most recent build, which is not served if it lost sections the served one has
+    public record Snapshot(DashboardResponse response, long builtAtMillis, boolean refreshInFlight,
+                           long lastAttemptMillis, List<String> lastAttemptFailedSections) {
+        public long ageSeconds() {
+            return Math.max(0, (System.currentTimeMillis() - builtAtMillis) / 1000);
+        }
+    }
+
+    /* ================= READ ================= */
+    public Snapshot getSnapshot() {
+        Snapshot snapshot = current.get();
+
+        // First request: nothing to serve yet, so build synchronously (once)
+        if (snapshot == null) {
+            return loadInitial();
+        }
+
+        // Stale: keep serving the last good snapshot and let one background refresh rebuild it.
+        // Measured from the last attempt, so a failing service is retried once per TTL, not per request
+        if (System.currentTimeMillis() - snapshot.lastAttemptMillis() >= ttlMs) {
+            triggerRefresh();
+        }
+
+        return new Snapshot(snapshot.response(), snapshot.builtAtMillis(), refreshing.get(),
+                snapshot.lastAttemptMillis(), snapshot.lastAttemptFailedSections());
+    }
+
+    /* ================= REFRESH ================= */
+    private synchronized Snapshot loadInitial() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            snapshot = build();
+            current.set(snapshot);
+        }
+        return snapshot;
+    }
+
+    private void triggerRefresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    current.set(next(current.get(), build()));
+                } catch (Exception e) {
+                    log.warn("Dashboard snapshot refresh failed, keeping last good snapshot", e);
+                    current.set(failed(current.get(), List.of("dashboard")));
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (Exception e) {
+            refreshing.set(false);
+            log.warn("Could not schedule dashboard snapshot refresh", e);
+        }
+    }
+
+    private Snapshot build() {
+        DashboardResponse response = dashboardService.generateDashboardData();
+        long now = System.currentTimeMillis();
+        return new Snapshot(response, now, false, now, sections(response));
+    }
+
+    // A rebuild replaces the served snapshot unless it lost a section the served one has; a partial
+    // rebuild would otherwise blank out data that is only temporarily unreachable
+    static Snapshot next(Snapshot previous, Snapshot rebuilt) {
+        if (previous == null || sections(previous.response()).containsAll(rebuilt.lastAttemptFailedSections())) {
+            return rebuilt;
+        }
+        log.warn("Dashboard snapshot refresh was partial ({}), keeping last good snapshot",
+                rebuilt.lastAttemptFailedSections());
+        return new Snapshot(previous.response(), previous.builtAtMillis(), false,
+                rebuilt.lastAttemptMillis(), rebuilt.lastAttemptFailedSections());
+    }
+
+    private static Snapshot failed(Snapshot previous, List<String> failedSections) {
+        return new Snapshot(previous.response(), previous.builtAtMillis(), false,
+                System.currentTimeMillis(), failedSections);
+    }
+
+    private static List<String> sections(DashboardResponse response) {
+        return response.getPartialSections() != null ? response.getPartialSections() : List.of();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,134 @@
+package com.petromanage.dashboard_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.petromanage.dashboard_service.dto.AssetStatusDto;
+import com.petromanage.dashboard_service.dto.ProductionTotalDto;
+
+class AssetUtilizationCalculatorTest {
+
+    @Test
+    void matchesNestedLoopResultsOnRandomData() {
+        Random random = new Random(42);
+        List<Map<String, Object>> rawRecords = new ArrayList<>();
+        // What PRODUCTION-SERVICE accumulates per asset as the same records are written
+        Map<Long, ProductionTotalDto> totalsByAsset = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long assetId = 1 + random.nextInt(60);
+            Double actual = i % 17 != 0 ? random.nextDouble() * 1000 : null;
+            Double planned = i % 23 != 0 ? random.nextDouble() * 1500 : null;
+
+            // Same record as the untyped map the dashboard used to decode
+            Map<String, Object> raw = new HashMap<>();
+            raw.put("assetId", assetId);
+            if (actual != null) {
+                raw.put("actualVolume", actual);
+            }
+            if (planned != null) {
+                raw.put("dailyPlannedTarget", planned);
+            }
+            rawRecords.add(raw);
+            ProductionTotalDto totals = totalsByAsset.computeIfAbsent(assetId, id -> totals(id, 0.0, 0.0));
+            totals.setActualVolume(totals.getActualVolume() + (actual != null ? actual : 0.0));
+            totals.setPlannedVolume(totals.getPlannedVolume() + (planned != null ? planned : 0.0));
+            totals.setRecordCount(totals.getRecordCount() + 1);
+        }
+
+        List<AssetStatusDto> expected = assets(50);
+        List<AssetStatusDto> actual = assets(50);
+
+        legacyApplyUtilization(expected, rawRecords);
+        AssetUtilizationCalculator.applyUtilization(actual, new ArrayList<>(totalsByAsset.values()));
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getUtilization(), actual.get(i).getUtilization(),
+                    "utilization mismatch for asset " + expected.get(i).getAssetId());
+        }
+    }
+
+    @Test
+    void assetsWithoutTotalsOrPlanGetZero() {
+        List<ProductionTotalDto> assetTotals = List.of(totals(1L, 50.0, 0.0));
+
+        List<AssetStatusDto> assets = assets(2);
+        assets.add(new AssetStatusDto(null, "Unregistered", 33, "ACTIVE"));
+
+        AssetUtilizationCalculator.applyUtilization(assets, assetTotals);
+
+        assertEquals(0, assets.get(0).getUtilization());
+        assertEquals(0, assets.get(1).getUtilization());
+        assertEquals(0, assets.get(2).getUtilization());
+    }
+
+    @Test
+    void utilizationIsCappedAtOneHundred() {
+        List<AssetStatusDto> assets = assets(1);
+        AssetUtilizationCalculator.applyUtilization(assets, List.of(totals(1L, 300.0, 100.0)));
+
+        assertEquals(100, assets.get(0).getUtilization());
+    }
+
+    private static ProductionTotalDto totals(long assetId, double actualVolume, double plannedVolume) {
+        ProductionTotalDto totals = new ProductionTotalDto();
+        totals.setAssetId(assetId);
+        totals.setActualVolume(actualVolume);
+        totals.setPlannedVolume(plannedVolume);
+        return totals;
+    }
+
+    private static List<AssetStatusDto> assets(int count) {
+        List<AssetStatusDto> assets = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            assets.add(new AssetStatusDto(id, "Asset " + id, 0, "ACTIVE"));
+        }
+        return assets;
+    }
+
+    // Original O(assets x records) implementation from DashboardService, kept as the reference
+    private static void legacyApplyUtilization(List<AssetStatusDto> assets, List<Map<String, Object>> productionRecords) {
+        for (AssetStatusDto asset : assets) {
+            double assetActual = 0.0;
+            double assetPlanned = 0.0;
+
+            for (Map<String, Object> record : productionRecords) {
+                Object assetIdObj = record.get("assetId");
+                if (assetIdObj != null) {
+                    Long recordAssetId = assetIdObj instanceof Long ?
+                        (Long) assetIdObj :
+                        Long.parseLong(assetIdObj.toString());
+
+                    if (recordAssetId.equals(asset.getAssetId())) {
+                        Object actualVolumeObj = record.get("actualVolume");
+                        if (actualVolumeObj != null) {
+                            assetActual += actualVolumeObj instanceof Double ?
+                                (Double) actualVolumeObj :
+                                Double.parseDouble(actualVolumeObj.toString());
+                        }
+
+                        Object plannedTargetObj = record.get("dailyPlannedTarget");
+                        if (plannedTargetObj != null) {
+                            assetPlanned += plannedTargetObj instanceof Double ?
+                                (Double) plannedTargetObj :
+                                Double.parseDouble(plannedTargetObj.toString());
+                        }
+                    }
+                }
+            }
+
+            int assetUtilization = 0;
+            if (assetPlanned > 0) {
+                double assetUtil = (assetActual / assetPlanned) * 100;
+                assetUtilization = (int) Math.min(100, Math.round(assetUtil));
+            }
+            asset.setUtilization(assetUtilization);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.petromanage.dashboard_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.petromanage.dashboard_service.dto.DashboardResponse;
+
+class DashboardSnapshotServiceTest {
+
+    @Test
+    void completeRebuildReplacesTheSnapshot() {
+        DashboardSnapshotService.Snapshot previous = snapshot(1_000, List.of("compliance"));
+        DashboardSnapshotService.Snapshot rebuilt = snapshot(2_000, List.of());
+
+        assertSame(rebuilt, DashboardSnapshotService.next(previous, rebuilt));
+    }
+
+    @Test
+    void partialRebuildKeepsTheLastGoodSnapshotAndRecordsTheAttempt() {
+        DashboardSnapshotService.Snapshot previous = snapshot(1_000, List.of());
+        DashboardSnapshotService.Snapshot rebuilt = snapshot(2_000, List.of("production"));
+
+        DashboardSnapshotService.Snapshot next = DashboardSnapshotService.next(previous, rebuilt);
+
+        assertSame(previous.response(), next.response());
+        assertEquals(1_000, next.builtAtMillis());
+        assertEquals(2_000, next.lastAttemptMillis());
+        assertEquals(List.of("production"), next.lastAttemptFailedSections());
+    }
+
+    @Test
+    void rebuildMissingOnlySectionsTheSnapshotAlreadyLacksIsServed() {
+        DashboardSnapshotService.Snapshot previous = snapshot(1_000, List.of("production", "compliance"));
+        DashboardSnapshotService.Snapshot rebuilt = snapshot(2_000, List.of("compliance"));
+
+        assertSame(rebuilt, DashboardSnapshotService.next(previous, rebuilt));
+    }
+
+    @Test
+    void firstBuildIsServedEvenWhenPartial() {
+        DashboardSnapshotService.Snapshot rebuilt = snapshot(2_000, List.of("assets"));
+
+        assertSame(rebuilt, DashboardSnapshotService.next(null, rebuilt));
+    }
+
+    private static DashboardSnapshotService.Snapshot snapshot(long builtAtMillis, List<String> partialSections) {
+        DashboardResponse response = new DashboardResponse();
+        response.setPartialSections(partialSections);
+        return new DashboardSnapshotService.Snapshot(response, builtAtMillis, false, builtAtMillis, partialSections);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.maintenance.maintenance.controller;
+
+import com.example.maintenance.maintenance.service.AssetExistenceIndex;
+import com.example.maintenance.maintenance.service.AssetLookupService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Create/delete pushes from ASSETS-SERVICE that keep the existence index current between reloads
+@RestController
+@RequestMapping("/internal/assets/index")
+public class AssetIndexController {
+
+    private final AssetExistenceIndex assetIndex;
+    private final AssetLookupService assetLookup;
+
+    public AssetIndexController(AssetExistenceIndex assetIndex, AssetLookupService assetLookup) {
+        this.assetIndex = assetIndex;
+        this.assetLookup = assetLookup;
+    }
+
+    @PostMapping("/created")
+    public ResponseEntity<Void> created(@RequestBody List<Long> assetIds) {
+        assetIndex.add(assetIds);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/deleted")
+    public ResponseEntity<Void> deleted(@RequestBody List<Long> assetIds) {
+        assetIndex.remove(assetIds);
+        assetLookup.evict(assetIds);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/size")
+    public ResponseEntity<Integer> size() {
+        return ResponseEntity.ok(assetIndex.size());
+    }
+}
@@ -1,10 +1,17 @@
 package com.example.maintenance.maintenance.controller;
+import com.example.maintenance.maintenance.dto.TechnicianWorkloadDTO;
+import com.example.maintenance.maintenance.dto.WorkOrderAssignmentDTO;
 import com.example.maintenance.maintenance.dto.WorkOrderRequestDTO;
 import com.example.maintenance.maintenance.dto.WorkOrderResponseDTO;
+import com.example.maintenance.maintenance.dto.WorkOrderStatsDTO;
 import com.example.maintenance.maintenance.service.MaintenanceService;
+import com.example.maintenance.maintenance.service.TechnicianWorkloadService;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -13,9 +20,12 @@ import java.util.Map;
 public class MaintenanceController {
 
     private final MaintenanceService maintenanceService;
+    private final TechnicianWorkloadService workloadService;
 
-    public MaintenanceController(MaintenanceService maintenanceService) {
+    public MaintenanceController(MaintenanceService maintenanceService,
+                                 TechnicianWorkloadService workloadService) {
         this.maintenanceService = maintenanceService;
+        this.workloadService = workloadService;
     }
 
     @PostMapping("/work-orders")
@@ -32,11 +42,42 @@ public class MaintenanceController {
                 maintenanceService.updateWorkOrderProgress(id, updates));
     }
 
+    // All filters optional; pass page (0-based) and size to paginate, total comes back in X-Total-Count
     @GetMapping("/work-orders")
-    public ResponseEntity<List<WorkOrderResponseDTO>> getAll() {
-        return ResponseEntity.ok(maintenanceService.getAllWorkOrders());
+    public ResponseEntity<List<WorkOrderResponseDTO>> getAll(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String technician,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        Page<WorkOrderResponseDTO> result = maintenanceService.searchWorkOrders(
+                status, priority, type, technician, from, to, page, size);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(result.getTotalElements()))
+                .body(result.getContent());
     }
     
+    // Counts by status, by priority and by both, in one small payload
+    @GetMapping("/work-orders/stats")
+    public ResponseEntity<WorkOrderStatsDTO> getStats() {
+        return ResponseEntity.ok(maintenanceService.getStats());
+    }
+
+    @GetMapping("/work-orders/{id}/assignments")
+    public ResponseEntity<List<WorkOrderAssignmentDTO>> getAssignments(@PathVariable Long id) {
+        return ResponseEntity.ok(workloadService.getAssignments(id));
+    }
+
+    // Technicians with the fewest open work orders first
+    @GetMapping("/technicians/least-loaded")
+    public ResponseEntity<List<TechnicianWorkloadDTO>> getLeastLoadedTechnicians(
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(workloadService.getLeastLoaded(limit));
+    }
+
     @GetMapping("/count")
     public ResponseEntity<Long> getWorkOrderCountNotCompleted() {
         return ResponseEntity.ok(maintenanceService.getIncompleteCount());
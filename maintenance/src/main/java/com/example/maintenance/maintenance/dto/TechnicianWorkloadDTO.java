@@ -0,0 +1,11 @@
+package com.example.maintenance.maintenance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TechnicianWorkloadDTO {
+    private String technician;
+    private long openWorkOrders;
+}
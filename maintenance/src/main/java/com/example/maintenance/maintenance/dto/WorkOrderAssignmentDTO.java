@@ -0,0 +1,10 @@
+package com.example.maintenance.maintenance.dto;
+
+import lombok.Data;
+
+@Data
+public class WorkOrderAssignmentDTO {
+    private Long workOrderId;
+    private String technicianName;
+    private String assignedDate;
+}
@@ -0,0 +1,29 @@
+package com.example.maintenance.maintenance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class WorkOrderStatsDTO {
+
+    private long total;
+    // Everything not COMPLETED, same rule as /count
+    private long incomplete;
+
+    private Map<String, Long> byStatus = new LinkedHashMap<>();
+    private Map<String, Long> byPriority = new LinkedHashMap<>();
+    private List<Cell> byStatusAndPriority = new ArrayList<>();
+
+    @Data
+    @AllArgsConstructor
+    public static class Cell {
+        private String status;
+        private String priority;
+        private long count;
+    }
+}
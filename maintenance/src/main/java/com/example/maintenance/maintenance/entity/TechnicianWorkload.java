@@ -0,0 +1,19 @@
+package com.example.maintenance.maintenance.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Open work orders per technician, maintained on write; the index keeps "least loaded" an ordered range read
+@Entity
+@Data
+@Table(name = "technician_workloads", indexes = {
+        @Index(name = "idx_technician_workloads_open", columnList = "open_work_orders, technician")
+})
+public class TechnicianWorkload {
+
+    @Id
+    @Column(length = 100)
+    private String technician;
+
+    private Long openWorkOrders;
+}
@@ -9,7 +9,13 @@ import java.time.LocalDate;
 
 @Entity
 @Data
-@Table(name = "work_orders")
+@Table(name = "work_orders", indexes = {
+        @Index(name = "idx_work_orders_status_scheduled", columnList = "status, scheduled_date"),
+        @Index(name = "idx_work_orders_technician_status", columnList = "assigned_technician, status"),
+        @Index(name = "idx_work_orders_scheduled", columnList = "scheduled_date"),
+        @Index(name = "idx_work_orders_asset", columnList = "asset_id"),
+        @Index(name = "idx_work_orders_status_expected", columnList = "status, expected_completion_date")
+})
 public class WorkOrder {
 
     @Id
@@ -7,7 +7,9 @@ import java.time.LocalDate;
 
 @Entity
 @Data
-@Table(name = "work_order_assignments")
+@Table(name = "work_order_assignments", indexes = {
+        @Index(name = "idx_work_order_assignments_order", columnList = "work_order_id")
+})
 public class WorkOrderAssignment {
 
     @Id
@@ -1,8 +1,15 @@
 package com.example.maintenance.maintenance.feign;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.List;
 
 @FeignClient(name = "ASSETS-SERVICE")
 public interface AssetFeignClient {
@@ -12,4 +19,12 @@ public interface AssetFeignClient {
 
     @GetMapping("/api/assets/{id}")
     AssetDTO getAsset(@PathVariable("id") Long id);
+
+    @PostMapping("/api/assets/batch")
+    List<AssetDTO> getAssetsByIds(@RequestBody List<Long> ids);
+
+    // Send the last ETag to get a 304 (surfaced as FeignException) when the asset registry is unchanged
+    @GetMapping("/api/assets/ids")
+    ResponseEntity<List<Long>> getAllAssetIds(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 }
@@ -0,0 +1,32 @@
+package com.example.maintenance.maintenance.repository;
+
+import com.example.maintenance.maintenance.entity.TechnicianWorkload;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TechnicianWorkloadRepository extends JpaRepository<TechnicianWorkload, String> {
+
+    // Reads the first rows of idx_technician_workloads_open: O(log n + limit)
+    List<TechnicianWorkload> findAllByOrderByOpenWorkOrdersAscTechnicianAsc(Pageable pageable);
+
+    // Atomic upsert, so concurrent writes for the same technician never lose an update
+    @Modifying
+    @Query(value = "insert into technician_workloads (technician, open_work_orders) values (:technician, :delta) " +
+                   "on duplicate key update open_work_orders = open_work_orders + :delta", nativeQuery = true)
+    int addOpenWorkOrders(@Param("technician") String technician, @Param("delta") long delta);
+
+    // Seeds every technician seen on a work order, including those with nothing open
+    @Modifying
+    @Query(value = "insert into technician_workloads (technician, open_work_orders) " +
+                   "select trim(assigned_technician), sum(case when actual_completion_date is null " +
+                   "and status not in ('COMPLETED', 'CANCELLED') then 1 else 0 end) " +
+                   "from work_orders where assigned_technician is not null and trim(assigned_technician) <> '' " +
+                   "group by trim(assigned_technician)", nativeQuery = true)
+    int rebuildFromWorkOrders();
+}
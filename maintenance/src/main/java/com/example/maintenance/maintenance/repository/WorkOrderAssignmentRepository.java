@@ -0,0 +1,11 @@
+package com.example.maintenance.maintenance.repository;
+
+import com.example.maintenance.maintenance.entity.WorkOrderAssignment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface WorkOrderAssignmentRepository extends JpaRepository<WorkOrderAssignment, Long> {
+    List<WorkOrderAssignment> findByWorkOrderIdOrderByIdAsc(Long workOrderId);
+}
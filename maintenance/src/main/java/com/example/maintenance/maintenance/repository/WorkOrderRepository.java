@@ -1,11 +1,72 @@
 package com.example.maintenance.maintenance.repository;
 
 import com.example.maintenance.maintenance.entity.WorkOrder;
+import com.example.maintenance.maintenance.enums.MaintenanceType;
 import com.example.maintenance.maintenance.enums.WorkOrderStatus;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long> {
     long countByStatusNot(WorkOrderStatus status);
+
+    /* ================= FILTERED SEARCH ================= */
+
+    // Every filter is optional; served by the status, technician and scheduled-date indexes
+    String SEARCH_QUERY = "select w from WorkOrder w " +
+            "where (:status is null or w.status = :status) " +
+            "and (:priority is null or w.priority = :priority) " +
+            "and (:type is null or w.maintenanceType = :type) " +
+            "and (:technician is null or w.assignedTechnician = :technician) " +
+            "and (:from is null or w.scheduledDate >= :from) " +
+            "and (:to is null or w.scheduledDate <= :to)";
+
+    @Query(SEARCH_QUERY)
+    Page<WorkOrder> search(@Param("status") WorkOrderStatus status,
+                           @Param("priority") String priority,
+                           @Param("type") MaintenanceType type,
+                           @Param("technician") String technician,
+                           @Param("from") LocalDate from,
+                           @Param("to") LocalDate to,
+                           Pageable pageable);
+
+    @Query(SEARCH_QUERY)
+    List<WorkOrder> search(@Param("status") WorkOrderStatus status,
+                           @Param("priority") String priority,
+                           @Param("type") MaintenanceType type,
+                           @Param("technician") String technician,
+                           @Param("from") LocalDate from,
+                           @Param("to") LocalDate to,
+                           Sort sort);
+
+    /* ================= OVERDUE SWEEP ================= */
+
+    // One set-based UPDATE; range scan per open status on idx_work_orders_status_expected
+    @Modifying
+    @Query("update WorkOrder w set w.status = :overdue " +
+           "where w.status in :openStatuses and w.expectedCompletionDate < :today")
+    int markOverdue(@Param("overdue") WorkOrderStatus overdue,
+                    @Param("openStatuses") Collection<WorkOrderStatus> openStatuses,
+                    @Param("today") LocalDate today);
+
+    /* ================= AGGREGATES ================= */
+
+    @Query("select w.status as status, w.priority as priority, count(w) as count " +
+           "from WorkOrder w group by w.status, w.priority")
+    List<StatusPriorityCount> countByStatusAndPriority();
+
+    interface StatusPriorityCount {
+        WorkOrderStatus getStatus();
+        String getPriority();
+        Long getCount();
+    }
 }
@@ -0,0 +1,174 @@
+package com.example.maintenance.maintenance.service;
+
+import com.example.maintenance.maintenance.feign.AssetFeignClient;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Local bitmap of the asset ids that exist in ASSETS-SERVICE.
+ * Loaded in full on a schedule and kept current between loads by create/delete pushes
+ * from the asset service. Asset ids are dense identity values, so a BitSet stays small.
+ * Once loaded, ids at or below the highest id seen are answered locally (PRESENT/ABSENT);
+ * anything newer is UNKNOWN and left to the caller to confirm remotely. Pushes that arrive
+ * while a reload is running are replayed onto the fresh set, so an id that commits out of
+ * order is only reported ABSENT if its push is lost, and then only until the next reload.
+ */
+@Service
+public class AssetExistenceIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetExistenceIndex.class);
+
+    public enum Existence { PRESENT, ABSENT, UNKNOWN }
+
+    private final AssetFeignClient assetFeignClient;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private BitSet ids = new BitSet();
+    private long highestId = 0;
+    private boolean loaded = false;
+    // Pushes received while a reload is in flight, replayed onto the fresh set before the swap
+    private boolean reloading = false;
+    private final BitSet addedDuringReload = new BitSet();
+    private final BitSet removedDuringReload = new BitSet();
+    // Validator of the last full load; an unchanged id list comes back as 304
+    private volatile String lastETag;
+
+    public AssetExistenceIndex(AssetFeignClient assetFeignClient) {
+        this.assetFeignClient = assetFeignClient;
+    }
+
+    /* ================= LOOKUP ================= */
+    public Existence check(Long assetId) {
+        if (assetId == null || assetId <= 0) {
+            return Existence.ABSENT;
+        }
+        lock.readLock().lock();
+        try {
+            if (assetId <= Integer.MAX_VALUE && ids.get(assetId.intValue())) {
+                return Existence.PRESENT;
+            }
+            return loaded && assetId <= highestId ? Existence.ABSENT : Existence.UNKNOWN;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* ================= SYNC ================= */
+    @Scheduled(initialDelayString = "${maintenance.asset-index.initial-delay-ms:10000}",
+               fixedDelayString = "${maintenance.asset-index.refresh-ms:300000}")
+    public synchronized void reload() {
+        lock.writeLock().lock();
+        try {
+            reloading = true;
+            addedDuringReload.clear();
+            removedDuringReload.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Long> assetIds;
+        String etag;
+        try {
+            ResponseEntity<List<Long>> response = assetFeignClient.getAllAssetIds(lastETag);
+            assetIds = response.getBody() != null ? response.getBody() : List.of();
+            etag = response.getHeaders().getETag();
+        } catch (FeignException e) {
+            if (e.status() != HttpStatus.NOT_MODIFIED.value()) {
+                log.warn("Asset index reload failed, keeping previous index", e);
+            }
+            endReload();
+            return;
+        } catch (Exception e) {
+            log.warn("Asset index reload failed, keeping previous index", e);
+            endReload();
+            return;
+        }
+
+        BitSet fresh = new BitSet();
+        long highest = 0;
+        for (Long assetId : assetIds) {
+            if (assetId != null && assetId > 0 && assetId <= Integer.MAX_VALUE) {
+                fresh.set(assetId.intValue());
+                highest = Math.max(highest, assetId);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            // The id list may predate pushes that arrived during the call; those win
+            fresh.or(addedDuringReload);
+            fresh.andNot(removedDuringReload);
+            ids = fresh;
+            highestId = Math.max(highest, addedDuringReload.length() - 1);
+            loaded = true;
+            lastETag = etag;
+            reloading = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void endReload() {
+        lock.writeLock().lock();
+        try {
+            reloading = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(Collection<Long> assetIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long assetId : assetIds) {
+                if (assetId != null && assetId > 0 && assetId <= Integer.MAX_VALUE) {
+                    ids.set(assetId.intValue());
+                    highestId = Math.max(highestId, assetId);
+                    if (reloading) {
+                        addedDuringReload.set(assetId.intValue());
+                        removedDuringReload.clear(assetId.intValue());
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Collection<Long> assetIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long assetId : assetIds) {
+                if (assetId != null && assetId > 0 && assetId <= Integer.MAX_VALUE) {
+                    ids.clear(assetId.intValue());
+                    if (reloading) {
+                        removedDuringReload.set(assetId.intValue());
+                        addedDuringReload.clear(assetId.intValue());
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
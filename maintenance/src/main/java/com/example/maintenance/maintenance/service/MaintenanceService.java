@@ -2,12 +2,20 @@ package com.example.maintenance.maintenance.service;
 
 import com.example.maintenance.maintenance.dto.WorkOrderRequestDTO;
 import com.example.maintenance.maintenance.dto.WorkOrderResponseDTO;
+import com.example.maintenance.maintenance.dto.WorkOrderStatsDTO;
 import com.example.maintenance.maintenance.entity.WorkOrder;
 import com.example.maintenance.maintenance.enums.MaintenanceType;
 import com.example.maintenance.maintenance.enums.WorkOrderStatus;
 import com.example.maintenance.maintenance.feign.AssetDTO;
-import com.example.maintenance.maintenance.feign.AssetFeignClient;
 import com.example.maintenance.maintenance.repository.WorkOrderRepository;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,25 +28,39 @@ import java.util.stream.Collectors;
 @Service
 public class MaintenanceService {
 
+    private static final Logger log = LoggerFactory.getLogger(MaintenanceService.class);
+
+    // Status/priority counts, evicted after every committed work-order write
+    public static final String WORK_ORDER_STATS_CACHE = "workOrderStats";
+
+    // Page size limits for the filtered work-order search
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final WorkOrderRepository workOrderRepository;
-    private final AssetFeignClient assetFeignClient;
+    private final AssetLookupService assetLookup;
+    private final AssetExistenceIndex assetIndex;
+    private final TechnicianWorkloadService workloadService;
+    private final WorkOrderStatsCache statsCache;
 
     public MaintenanceService(
             WorkOrderRepository workOrderRepository,
-            AssetFeignClient assetFeignClient) {
+            AssetLookupService assetLookup,
+            AssetExistenceIndex assetIndex,
+            TechnicianWorkloadService workloadService,
+            WorkOrderStatsCache statsCache) {
         this.workOrderRepository = workOrderRepository;
-        this.assetFeignClient = assetFeignClient;
+        this.assetLookup = assetLookup;
+        this.assetIndex = assetIndex;
+        this.workloadService = workloadService;
+        this.statsCache = statsCache;
     }
 
     /* ================= CREATE ================= */
     @Transactional
     public WorkOrderResponseDTO createWorkOrder(WorkOrderRequestDTO dto) {
 
-        if (!assetFeignClient.assetExists(dto.getAssetId())) {
-            throw new RuntimeException("Invalid Asset ID");
-        }
-
-        AssetDTO asset = assetFeignClient.getAsset(dto.getAssetId());
+        AssetDTO asset = requireAsset(dto.getAssetId());
 
         
 
@@ -52,7 +74,10 @@ public class MaintenanceService {
         order.setAssignedTechnician(dto.getTechnicianName());
         order.setStatus(WorkOrderStatus.SCHEDULED);
 
-        return map(order, asset, workOrderRepository.save(order));
+        WorkOrder saved = workOrderRepository.save(order);
+        workloadService.workOrderCreated(saved);
+        statsCache.evictAfterCommit();
+        return map(order, asset, saved);
     }
 
     /* ================= UPDATE ================= */
@@ -63,6 +88,13 @@ public class MaintenanceService {
         WorkOrder order = workOrderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Work Order not found"));
 
+        TechnicianWorkloadService.Load before = TechnicianWorkloadService.Load.of(order);
+
+        if (updates.containsKey("technicianName")) {
+            Object technician = updates.get("technicianName");
+            order.setAssignedTechnician(technician != null ? technician.toString() : null);
+        }
+
         if (updates.containsKey("expectedCompletionDate")) {
             order.setExpectedCompletionDate(
                     LocalDate.parse((String) updates.get("expectedCompletionDate")));
@@ -87,21 +119,93 @@ public class MaintenanceService {
                                     .replace(" ", "_")));
         }
 
-        AssetDTO asset = assetFeignClient.getAsset(order.getAssetId());
-        return map(order, asset, workOrderRepository.save(order));
+        WorkOrder saved = workOrderRepository.save(order);
+        workloadService.workOrderChanged(saved, before);
+        statsCache.evictAfterCommit();
+
+        AssetDTO asset = assetLookup.getAsset(order.getAssetId());
+        return map(order, asset, saved);
     }
 
     /* ================= GET ALL ================= */
     public List<WorkOrderResponseDTO> getAllWorkOrders() {
-        return workOrderRepository.findAll()
-                .stream()
-                .map(order -> {
-                    AssetDTO asset = assetFeignClient.getAsset(order.getAssetId());
-                    return map(order, asset, order);
-                })
+        return mapAll(workOrderRepository.findAll());
+    }
+
+    /* ================= SEARCH ================= */
+    // Without a page number every matching work order is returned (in id order), as before
+    public Page<WorkOrderResponseDTO> searchWorkOrders(
+            String status, String priority, String type, String technician,
+            LocalDate from, LocalDate to, Integer page, Integer size) {
+
+        WorkOrderStatus statusFilter = status == null || status.isBlank() ? null : parseStatus(status);
+        MaintenanceType typeFilter = type == null || type.isBlank() ? null : parseType(type);
+        String priorityFilter = priority == null || priority.isBlank() ? null : priority.trim().toUpperCase();
+        String technicianFilter = technician == null || technician.isBlank() ? null : technician.trim();
+
+        if (page == null) {
+            List<WorkOrder> orders = workOrderRepository.search(statusFilter, priorityFilter, typeFilter,
+                    technicianFilter, from, to, Sort.by("workOrderId"));
+            return new PageImpl<>(mapAll(orders));
+        }
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Page<WorkOrder> orders = workOrderRepository.search(statusFilter, priorityFilter, typeFilter,
+                technicianFilter, from, to,
+                PageRequest.of(Math.max(page, 0), pageSize,
+                        Sort.by(Sort.Order.desc("scheduledDate"), Sort.Order.desc("workOrderId"))));
+        return new PageImpl<>(mapAll(orders.getContent()), orders.getPageable(), orders.getTotalElements());
+    }
+
+    private WorkOrderStatus parseStatus(String status) {
+        try {
+            return WorkOrderStatus.valueOf(status.trim().toUpperCase().replace(" ", "_"));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid status " + status);
+        }
+    }
+
+    private MaintenanceType parseType(String type) {
+        try {
+            return MaintenanceType.valueOf(type.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid maintenance type " + type);
+        }
+    }
+
+    // Asset names for the whole list come from one cache pass plus batched lookups for the misses
+    private List<WorkOrderResponseDTO> mapAll(List<WorkOrder> orders) {
+        Map<Long, AssetDTO> assets = assetLookup.getAssets(
+                orders.stream().map(WorkOrder::getAssetId).collect(Collectors.toList()));
+        return orders.stream()
+                .map(order -> map(order, assets.get(order.getAssetId()), order))
                 .collect(Collectors.toList());
     }
 
+    /* ================= ASSET CHECK ================= */
+    // Ids the loaded local index knows are gone fail without a network hop. PRESENT and UNKNOWN
+    // ids are validated and fetched by the single (cached) asset lookup; an indexed asset is
+    // still accepted, without details, when the asset service is unreachable.
+    private AssetDTO requireAsset(Long assetId) {
+        AssetExistenceIndex.Existence existence = assetIndex.check(assetId);
+        if (existence == AssetExistenceIndex.Existence.ABSENT) {
+            throw new RuntimeException("Invalid Asset ID");
+        }
+        try {
+            AssetDTO asset = assetLookup.getAsset(assetId);
+            assetIndex.add(List.of(assetId));
+            return asset;
+        } catch (FeignException.NotFound e) {
+            throw new RuntimeException("Invalid Asset ID");
+        } catch (FeignException e) {
+            if (existence != AssetExistenceIndex.Existence.PRESENT) {
+                throw e;
+            }
+            log.warn("Asset service unavailable, accepting indexed asset {}", assetId, e);
+            return null;
+        }
+    }
+
     /* ================= MAPPER ================= */
     private WorkOrderResponseDTO map(
             WorkOrder order, AssetDTO asset, WorkOrder saved) {
@@ -109,7 +213,7 @@ public class MaintenanceService {
         WorkOrderResponseDTO dto = new WorkOrderResponseDTO();
         dto.setWorkOrderId(saved.getWorkOrderId());
         dto.setAssetId(saved.getAssetId());
-        dto.setAssetName(asset.getName());
+        dto.setAssetName(asset != null ? asset.getName() : null);
         dto.setDescription(saved.getDescription());
         dto.setMaintenanceType(saved.getMaintenanceType().name());
         dto.setScheduledDate(saved.getScheduledDate().toString());
@@ -128,6 +232,27 @@ public class MaintenanceService {
         return dto;
     }
     
+    /* ================= STATS ================= */
+    // One GROUP BY status, priority; cached until the next work-order write
+    @Cacheable(cacheNames = WORK_ORDER_STATS_CACHE, key = "'all'")
+    public WorkOrderStatsDTO getStats() {
+        WorkOrderStatsDTO stats = new WorkOrderStatsDTO();
+        for (WorkOrderRepository.StatusPriorityCount group : workOrderRepository.countByStatusAndPriority()) {
+            String status = group.getStatus() != null ? group.getStatus().name() : "NONE";
+            String priority = group.getPriority() != null ? group.getPriority() : "NONE";
+            long count = group.getCount() != null ? group.getCount() : 0;
+
+            stats.setTotal(stats.getTotal() + count);
+            if (group.getStatus() != WorkOrderStatus.COMPLETED) {
+                stats.setIncomplete(stats.getIncomplete() + count);
+            }
+            stats.getByStatus().merge(status, count, Long::sum);
+            stats.getByPriority().merge(priority, count, Long::sum);
+            stats.getByStatusAndPriority().add(new WorkOrderStatsDTO.Cell(status, priority, count));
+        }
+        return stats;
+    }
+
     /* ================= COUNT ================= */
     public long getIncompleteCount() {
         return workOrderRepository.countByStatusNot(WorkOrderStatus.COMPLETED);
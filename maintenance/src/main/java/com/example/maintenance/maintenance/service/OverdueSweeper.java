@@ -0,0 +1,63 @@
+package com.example.maintenance.maintenance.service;
+
+import com.example.maintenance.maintenance.enums.WorkOrderStatus;
+import com.example.maintenance.maintenance.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically moves open work orders past their expected completion date to OVERDUE,
+ * so reads can filter on the stored status instead of comparing dates row by row.
+ * Metrics: maintenance.overdue.sweep (timer), maintenance.overdue.marked (counter),
+ * maintenance.overdue.last-marked (gauge).
+ */
+@Service
+public class OverdueSweeper {
+
+    private static final Set<WorkOrderStatus> OPEN_STATUSES =
+            EnumSet.of(WorkOrderStatus.SCHEDULED, WorkOrderStatus.IN_PROGRESS);
+
+    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderStatsCache statsCache;
+
+    private final Timer sweepTimer;
+    private final Counter markedCounter;
+    private final AtomicInteger lastMarked = new AtomicInteger();
+
+    public OverdueSweeper(WorkOrderRepository workOrderRepository, WorkOrderStatsCache statsCache,
+                          MeterRegistry meterRegistry) {
+        this.workOrderRepository = workOrderRepository;
+        this.statsCache = statsCache;
+        this.sweepTimer = Timer.builder("maintenance.overdue.sweep")
+                .description("Duration of one overdue sweep")
+                .register(meterRegistry);
+        this.markedCounter = Counter.builder("maintenance.overdue.marked")
+                .description("Work orders moved to OVERDUE by the sweeper")
+                .register(meterRegistry);
+        meterRegistry.gauge("maintenance.overdue.last-marked", lastMarked);
+    }
+
+    @Scheduled(initialDelayString = "${maintenance.overdue-sweep.initial-delay-ms:60000}",
+               fixedDelayString = "${maintenance.overdue-sweep.interval-ms:300000}")
+    @Transactional
+    public void sweep() {
+        int marked = sweepTimer.record(() -> workOrderRepository.markOverdue(
+                WorkOrderStatus.OVERDUE, OPEN_STATUSES, LocalDate.now()));
+
+        lastMarked.set(marked);
+        if (marked > 0) {
+            markedCounter.increment(marked);
+            // Cleared once the bulk UPDATE is committed, so a concurrent read cannot re-cache old counts
+            statsCache.evictAfterCommit();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.maintenance.maintenance.service;
+
+import com.example.maintenance.maintenance.dto.TechnicianWorkloadDTO;
+import com.example.maintenance.maintenance.dto.WorkOrderAssignmentDTO;
+import com.example.maintenance.maintenance.entity.WorkOrder;
+import com.example.maintenance.maintenance.entity.WorkOrderAssignment;
+import com.example.maintenance.maintenance.enums.WorkOrderStatus;
+import com.example.maintenance.maintenance.repository.TechnicianWorkloadRepository;
+import com.example.maintenance.maintenance.repository.WorkOrderAssignmentRepository;
+import com.example.maintenance.maintenance.repository.WorkOrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Assignment history and per-technician open work-order counts.
+ * Called from the work-order write transactions, so counts commit together with the order.
+ */
+@Service
+public class TechnicianWorkloadService {
+
+    private static final Logger log = LoggerFactory.getLogger(TechnicianWorkloadService.class);
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TechnicianWorkloadRepository workloadRepository;
+    private final WorkOrderAssignmentRepository assignmentRepository;
+    private final WorkOrderRepository workOrderRepository;
+
+    public TechnicianWorkloadService(
+            TechnicianWorkloadRepository workloadRepository,
+            WorkOrderAssignmentRepository assignmentRepository,
+            WorkOrderRepository workOrderRepository) {
+        this.workloadRepository = workloadRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.workOrderRepository = workOrderRepository;
+    }
+
+    /* ================= WRITE PATH ================= */
+    // Snapshot of the fields that decide whose counter a work order belongs to
+    public record Load(String technician, boolean open) {
+        public static Load of(WorkOrder order) {
+            return new Load(normalize(order.getAssignedTechnician()), isOpen(order));
+        }
+    }
+
+    public void workOrderCreated(WorkOrder order) {
+        Load load = Load.of(order);
+        if (load.technician() != null) {
+            recordAssignment(order.getWorkOrderId(), load.technician());
+        }
+        apply(null, load);
+    }
+
+    public void workOrderChanged(WorkOrder order, Load before) {
+        Load after = Load.of(order);
+        if (after.technician() != null && !after.technician().equals(before.technician())) {
+            recordAssignment(order.getWorkOrderId(), after.technician());
+        }
+        apply(before, after);
+    }
+
+    private void apply(Load before, Load after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null && before.technician() != null) {
+            workloadRepository.addOpenWorkOrders(before.technician(), before.open() ? -1 : 0);
+        }
+        if (after.technician() != null) {
+            // A zero delta still registers the technician, so they show up as available
+            workloadRepository.addOpenWorkOrders(after.technician(), after.open() ? 1 : 0);
+        }
+    }
+
+    private void recordAssignment(Long workOrderId, String technician) {
+        WorkOrderAssignment assignment = new WorkOrderAssignment();
+        assignment.setWorkOrderId(workOrderId);
+        assignment.setAssignedTechnician(technician);
+        assignment.setAssignedDate(LocalDate.now());
+        assignmentRepository.save(assignment);
+    }
+
+    static boolean isOpen(WorkOrder order) {
+        return order.getActualCompletionDate() == null
+                && order.getStatus() != WorkOrderStatus.COMPLETED
+                && order.getStatus() != WorkOrderStatus.CANCELLED;
+    }
+
+    static String normalize(String technician) {
+        return technician == null || technician.isBlank() ? null : technician.trim();
+    }
+
+    /* ================= READ PATH ================= */
+    public List<TechnicianWorkloadDTO> getLeastLoaded(Integer limit) {
+        int size = limit == null ? 5 : Math.max(1, Math.min(limit, MAX_LIMIT));
+        return workloadRepository.findAllByOrderByOpenWorkOrdersAscTechnicianAsc(PageRequest.of(0, size))
+                .stream()
+                .map(w -> new TechnicianWorkloadDTO(w.getTechnician(),
+                        w.getOpenWorkOrders() != null ? w.getOpenWorkOrders() : 0))
+                .collect(Collectors.toList());
+    }
+
+    public List<WorkOrderAssignmentDTO> getAssignments(Long workOrderId) {
+        return assignmentRepository.findByWorkOrderIdOrderByIdAsc(workOrderId)
+                .stream()
+                .map(a -> {
+                    WorkOrderAssignmentDTO dto = new WorkOrderAssignmentDTO();
+                    dto.setWorkOrderId(a.getWorkOrderId());
+                    dto.setTechnicianName(a.getAssignedTechnician());
+                    if (a.getAssignedDate() != null)
+                        dto.setAssignedDate(a.getAssignedDate().toString());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /* ================= SEEDING ================= */
+    // Builds the counters from existing work orders the first time the service runs with the table
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedWorkloads() {
+        if (workloadRepository.count() > 0 || workOrderRepository.count() == 0) {
+            return;
+        }
+        int technicians = workloadRepository.rebuildFromWorkOrders();
+        log.info("Seeded workload counters for {} technicians", technicians);
+    }
+}
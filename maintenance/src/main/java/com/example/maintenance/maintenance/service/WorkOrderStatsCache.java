@@ -0,0 +1,41 @@
+package com.example.maintenance.maintenance.service;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts the cached work-order stats once the current transaction has committed.
+ * Evicting inside the transaction lets a concurrent read re-cache the pre-commit counts.
+ */
+@Component
+public class WorkOrderStatsCache {
+
+    private final CacheManager cacheManager;
+
+    public WorkOrderStatsCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public void evictAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict();
+            }
+        });
+    }
+
+    private void evict() {
+        Cache stats = cacheManager.getCache(MaintenanceService.WORK_ORDER_STATS_CACHE);
+        if (stats != null) {
+            stats.clear();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.maintenance.maintenance.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import com.example.maintenance.maintenance.feign.AssetFeignClient;
+import com.example.maintenance.maintenance.service.AssetExistenceIndex.Existence;
+
+class AssetExistenceIndexTest {
+
+    private AssetFeignClient assetFeignClient;
+    private AssetExistenceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        assetFeignClient = mock(AssetFeignClient.class);
+        index = new AssetExistenceIndex(assetFeignClient);
+    }
+
+    @Test
+    void everythingIsUnknownBeforeTheFirstLoad() {
+        assertEquals(Existence.UNKNOWN, index.check(1L));
+        assertEquals(Existence.ABSENT, index.check(null));
+        assertEquals(Existence.ABSENT, index.check(0L));
+    }
+
+    @Test
+    void gapsBelowTheHighestIdAreAbsentAndNewerIdsUnknown() {
+        when(assetFeignClient.getAllAssetIds(any())).thenReturn(ResponseEntity.ok(List.of(1L, 2L, 4L)));
+
+        index.reload();
+
+        assertEquals(Existence.PRESENT, index.check(4L));
+        assertEquals(Existence.ABSENT, index.check(3L));
+        assertEquals(Existence.UNKNOWN, index.check(5L));
+    }
+
+    @Test
+    void pushesDuringAReloadSurviveTheSwap() {
+        when(assetFeignClient.getAllAssetIds(any())).thenAnswer(invocation -> {
+            // Arrive while the id list is being fetched, which predates them
+            index.add(List.of(3L, 9L));
+            index.remove(List.of(2L));
+            return ResponseEntity.ok(List.of(1L, 2L, 4L));
+        });
+
+        index.reload();
+
+        assertEquals(Existence.PRESENT, index.check(3L));
+        assertEquals(Existence.PRESENT, index.check(9L));
+        assertEquals(Existence.ABSENT, index.check(2L));
+        assertEquals(Existence.ABSENT, index.check(8L));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void failedReloadKeepsThePreviousIndex() {
+        when(assetFeignClient.getAllAssetIds(any()))
+                .thenReturn(ResponseEntity.ok(List.of(1L, 2L)))
+                .thenThrow(new IllegalStateException("asset service down"));
+
+        index.reload();
+        index.reload();
+
+        assertEquals(Existence.PRESENT, index.check(2L));
+        assertEquals(2, index.size());
+    }
+}
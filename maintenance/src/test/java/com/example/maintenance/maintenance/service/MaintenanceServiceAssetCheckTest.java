@@ -0,0 +1,103 @@
+package com.example.maintenance.maintenance.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.maintenance.maintenance.dto.WorkOrderRequestDTO;
+import com.example.maintenance.maintenance.dto.WorkOrderResponseDTO;
+import com.example.maintenance.maintenance.entity.WorkOrder;
+import com.example.maintenance.maintenance.feign.AssetDTO;
+import com.example.maintenance.maintenance.repository.WorkOrderRepository;
+
+import feign.FeignException;
+import feign.Request;
+
+class MaintenanceServiceAssetCheckTest {
+
+    private WorkOrderRepository workOrderRepository;
+    private AssetLookupService assetLookup;
+    private AssetExistenceIndex assetIndex;
+    private TechnicianWorkloadService workloadService;
+    private WorkOrderStatsCache statsCache;
+    private MaintenanceService service;
+
+    @BeforeEach
+    void setUp() {
+        workOrderRepository = mock(WorkOrderRepository.class);
+        assetLookup = mock(AssetLookupService.class);
+        assetIndex = mock(AssetExistenceIndex.class);
+        workloadService = mock(TechnicianWorkloadService.class);
+        statsCache = mock(WorkOrderStatsCache.class);
+        service = new MaintenanceService(workOrderRepository, assetLookup, assetIndex, workloadService, statsCache);
+
+        when(workOrderRepository.save(any(WorkOrder.class))).thenAnswer(invocation -> {
+            WorkOrder order = invocation.getArgument(0);
+            order.setWorkOrderId(100L);
+            return order;
+        });
+    }
+
+    @Test
+    void absentAssetIsRejectedWithoutCallingTheAssetService() {
+        when(assetIndex.check(42L)).thenReturn(AssetExistenceIndex.Existence.ABSENT);
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> service.createWorkOrder(request(42L)));
+
+        assertEquals("Invalid Asset ID", error.getMessage());
+        verifyNoInteractions(assetLookup, workOrderRepository, workloadService, statsCache);
+    }
+
+    @Test
+    void unknownAssetIsConfirmedRemotely() {
+        when(assetIndex.check(7L)).thenReturn(AssetExistenceIndex.Existence.UNKNOWN);
+        when(assetLookup.getAsset(7L)).thenThrow(notFound());
+
+        assertThrows(RuntimeException.class, () -> service.createWorkOrder(request(7L)));
+
+        verify(assetLookup).getAsset(7L);
+        verifyNoInteractions(workOrderRepository);
+    }
+
+    @Test
+    void presentAssetIsCreatedWithItsDetails() {
+        when(assetIndex.check(5L)).thenReturn(AssetExistenceIndex.Existence.PRESENT);
+        AssetDTO asset = new AssetDTO();
+        asset.setAssetId(5L);
+        asset.setName("Rig 5");
+        when(assetLookup.getAsset(5L)).thenReturn(asset);
+
+        WorkOrderResponseDTO created = service.createWorkOrder(request(5L));
+
+        assertEquals(100L, created.getWorkOrderId());
+        assertEquals("Rig 5", created.getAssetName());
+        verify(assetIndex).add(List.of(5L));
+    }
+
+    private static WorkOrderRequestDTO request(Long assetId) {
+        WorkOrderRequestDTO dto = new WorkOrderRequestDTO();
+        dto.setAssetId(assetId);
+        dto.setDescription("Replace seals");
+        dto.setScheduledDate("2024-06-01");
+        dto.setMaintenanceType("preventive");
+        dto.setPriority("high");
+        return dto;
+    }
+
+    private static FeignException notFound() {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/assets/7", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        return new FeignException.NotFound("Not Found", request, null, Map.of());
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.production.production.controller;
+
+import com.example.production.production.service.AssetLookupService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Invalidation hook called by ASSETS-SERVICE when assets are updated or deleted
+@RestController
+@RequestMapping("/internal/cache/assets")
+public class AssetCacheController {
+
+    private final AssetLookupService assetLookup;
+
+    public AssetCacheController(AssetLookupService assetLookup) {
+        this.assetLookup = assetLookup;
+    }
+
+    @PostMapping("/evict")
+    public ResponseEntity<Void> evict(@RequestBody List<Long> assetIds) {
+        assetLookup.evict(assetIds);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> evictAll() {
+        assetLookup.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -4,10 +4,12 @@ import com.example.production.production.dto.ProductionPlanRequestDTO;
 import com.example.production.production.dto.ProductionPlanResponseDTO;
 import com.example.production.production.service.ProductionPlanService;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -56,6 +58,19 @@ public class ProductionPlanController {
     }
 
     
+    @PutMapping("/{id}/archive")
+    public ResponseEntity<ProductionPlanResponseDTO> archivePlan(@PathVariable Long id) {
+        return ResponseEntity.ok(service.archivePlan(id));
+    }
+
+    
+    @PostMapping("/archive")
+    public ResponseEntity<Integer> archivePlansEndedBefore(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endedBefore) {
+        return ResponseEntity.ok(service.archivePlansEndedBefore(endedBefore));
+    }
+
+    
     @GetMapping("/test-assets")
     public ResponseEntity<String> testAssetIntegration() {
         service.processProduction();
@@ -1,12 +1,22 @@
 package com.example.production.production.controller;
 
+import com.example.production.production.dto.ProductionAssetTotalDTO;
+import com.example.production.production.dto.ProductionRecordBulkResultDTO;
+import com.example.production.production.dto.ProductionDailyTotalDTO;
+import com.example.production.production.dto.ProductionRecordPageDTO;
 import com.example.production.production.dto.ProductionRecordRequestDTO;
 import com.example.production.production.dto.ProductionRecordResponseDTO;
+import com.example.production.production.service.ProductionExportService;
 import com.example.production.production.service.ProductionRecordService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -14,9 +24,11 @@ import java.util.List;
 public class ProductionRecordController {
 
     private final ProductionRecordService service;
+    private final ProductionExportService exportService;
 
-    public ProductionRecordController(ProductionRecordService service) {
+    public ProductionRecordController(ProductionRecordService service, ProductionExportService exportService) {
         this.service = service;
+        this.exportService = exportService;
     }
 
     
@@ -27,9 +39,51 @@ public class ProductionRecordController {
     }
 
     
+    @PostMapping("/bulk")
+    public ResponseEntity<ProductionRecordBulkResultDTO> createRecordsBulk(
+            @RequestBody List<ProductionRecordRequestDTO> dtos) {
+        return ResponseEntity.ok(service.saveRecordsBulk(dtos));
+    }
+
+    
     @GetMapping
-    public ResponseEntity<List<ProductionRecordResponseDTO>> getAllRecords() {
-        return ResponseEntity.ok(service.getAllRecords());
+    public ResponseEntity<List<ProductionRecordResponseDTO>> getAllRecords(
+            @RequestParam(required = false) Long assetId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(service.getRecordsInRange(assetId, from, to));
+    }
+
+    
+    @GetMapping("/page")
+    public ResponseEntity<ProductionRecordPageDTO> getRecordsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(service.getRecordsPage(cursor, size));
+    }
+
+    
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRecords() {
+        StreamingResponseBody body = service::streamRecords;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRecords(
+            @RequestParam(required = false) Long assetId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "true") boolean compress) {
+        StreamingResponseBody body = out -> exportService.exportCsv(out, assetId, from, to, compress);
+        String fileName = compress ? "production-records.csv.gz" : "production-records.csv";
+        return ResponseEntity.ok()
+                .contentType(compress ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
     }
 
     
@@ -62,4 +116,22 @@ public class ProductionRecordController {
     public ResponseEntity<Integer> getRecordCount() {
         return ResponseEntity.ok(service.getCount());
     }
+
+    
+    @GetMapping("/rollup/daily")
+    public ResponseEntity<List<ProductionDailyTotalDTO>> getDailyTotals(
+            @RequestParam(required = false) Long assetId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(service.getDailyTotals(assetId, from, to));
+    }
+
+    
+    @GetMapping("/rollup/assets")
+    public ResponseEntity<List<ProductionAssetTotalDTO>> getAssetTotals(
+            @RequestParam(required = false) Long assetId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(service.getAssetTotals(assetId, from, to));
+    }
 }
@@ -0,0 +1,38 @@
+package com.example.production.production.controller;
+
+import com.example.production.production.dto.ProductionTotalDTO;
+import com.example.production.production.service.ProductionTotalsService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/production/totals")
+public class ProductionTotalsController {
+
+    private final ProductionTotalsService service;
+
+    public ProductionTotalsController(ProductionTotalsService service) {
+        this.service = service;
+    }
+
+    
+    @GetMapping("/plans/{planId}")
+    public ResponseEntity<ProductionTotalDTO> getPlanTotals(@PathVariable Long planId) {
+        return ResponseEntity.ok(service.getPlanTotals(planId));
+    }
+
+    
+    @GetMapping("/assets/{assetId}")
+    public ResponseEntity<ProductionTotalDTO> getAssetTotals(@PathVariable Long assetId) {
+        return ResponseEntity.ok(service.getAssetTotals(assetId));
+    }
+
+    
+    @GetMapping("/assets")
+    public ResponseEntity<List<ProductionTotalDTO>> getAllAssetTotals() {
+        return ResponseEntity.ok(service.getAllAssetTotals());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.production.production.controller;
+
+import com.example.production.production.dto.ProductionTrendDTO;
+import com.example.production.production.service.ProductionRollupService;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/production/trends")
+public class ProductionTrendController {
+
+    private final ProductionRollupService service;
+
+    public ProductionTrendController(ProductionRollupService service) {
+        this.service = service;
+    }
+
+    
+    // Without a granularity the bucket size is picked from the length of the range
+    @GetMapping
+    public ResponseEntity<ProductionTrendDTO> getTrend(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long assetId,
+            @RequestParam(required = false) Long planId,
+            @RequestParam(required = false) String granularity) {
+        return ResponseEntity.ok(service.getTrend(from, to, assetId, planId, granularity));
+    }
+}
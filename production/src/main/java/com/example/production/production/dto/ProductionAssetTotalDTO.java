@@ -0,0 +1,11 @@
+package com.example.production.production.dto;
+
+import lombok.Data;
+
+@Data
+public class ProductionAssetTotalDTO {
+    private Long assetId;
+    private double actualVolume;
+    private double plannedVolume;
+    private long recordCount;
+}
@@ -0,0 +1,12 @@
+package com.example.production.production.dto;
+
+import lombok.Data;
+import java.time.LocalDate;
+
+@Data
+public class ProductionDailyTotalDTO {
+    private LocalDate date;
+    private double actualVolume;
+    private double plannedVolume;
+    private long recordCount;
+}
@@ -0,0 +1,21 @@
+package com.example.production.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ProductionRecordBulkResultDTO {
+    private int received;
+    private int inserted;
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        // Position of the rejected row in the request array
+        private int index;
+        private String message;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.production.production.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class ProductionRecordPageDTO {
+    private List<ProductionRecordResponseDTO> records;
+    // Pass back as ?cursor= to get the next page; null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+}
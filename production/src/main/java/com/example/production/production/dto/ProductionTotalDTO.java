@@ -0,0 +1,14 @@
+package com.example.production.production.dto;
+
+import lombok.Data;
+
+@Data
+public class ProductionTotalDTO {
+    private Long planId;
+    private Long assetId;
+    private double actualVolume;
+    private double plannedVolume;
+    private long recordCount;
+    // actual / planned * 100, rounded to 1 decimal; 0 when nothing is planned
+    private double efficiency;
+}
@@ -0,0 +1,23 @@
+package com.example.production.production.dto;
+
+import lombok.Data;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ProductionTrendDTO {
+    // DAY, WEEK or MONTH; each point's date is the first day of its bucket
+    private String granularity;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Point> points = new ArrayList<>();
+
+    @Data
+    public static class Point {
+        private LocalDate date;
+        private double actualVolume;
+        private double plannedVolume;
+        private long recordCount;
+    }
+}
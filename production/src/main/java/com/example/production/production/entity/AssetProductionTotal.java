@@ -0,0 +1,18 @@
+package com.example.production.production.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Running totals per asset, maintained in the same transaction as record writes
+@Entity
+@Data
+@Table(name = "production_asset_totals")
+public class AssetProductionTotal {
+
+    @Id
+    private Long assetId;
+
+    private Double actualVolume;
+    private Double plannedVolume;
+    private Long recordCount;
+}
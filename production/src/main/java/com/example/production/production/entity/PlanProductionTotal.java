@@ -0,0 +1,17 @@
+package com.example.production.production.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Running totals per plan, maintained in the same transaction as record writes
+@Entity
+@Data
+@Table(name = "production_plan_totals")
+public class PlanProductionTotal {
+
+    @Id
+    private Long planId;
+
+    private Double actualVolume;
+    private Long recordCount;
+}
@@ -2,6 +2,7 @@ package com.example.production.production.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -26,12 +27,31 @@ public class ProductionPlan {
     private String status; 
 
     
-    @OneToMany(mappedBy = "plan", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Read-only side of the relation: no cascade, and kept out of equals/hashCode/toString so
+    // nothing initializes it by accident. Plan deletes remove records with one bulk statement.
+    @OneToMany(mappedBy = "plan")
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<ProductionRecord> records = new ArrayList<>();
 
+    // Derived from plannedVolume and the plan dates, stored once per plan instead of per record read
+    private Double dailyPlannedVolume;
+
+    
+    @PrePersist
+    @PreUpdate
+    public void computeDailyPlannedVolume() {
+        dailyPlannedVolume = calculateDailyPlannedVolume();
+    }
+
     
     public Double getDailyPlannedVolume() {
+        // Rows created before the column existed are backfilled at startup; fall back just in case
+        return dailyPlannedVolume != null ? dailyPlannedVolume : calculateDailyPlannedVolume();
+    }
+
+    
+    private Double calculateDailyPlannedVolume() {
         if (plannedVolume == null || startDate == null || endDate == null) {
             return 0.0;
         }
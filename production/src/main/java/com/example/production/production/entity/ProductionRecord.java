@@ -2,11 +2,17 @@ package com.example.production.production.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import java.time.LocalDate;
 
 @Entity
 @Data
-@Table(name = "production_records")
+@Table(name = "production_records", indexes = {
+        @Index(name = "idx_production_records_asset_date", columnList = "asset_id, date"),
+        @Index(name = "idx_production_records_plan_date", columnList = "plan_id, date"),
+        @Index(name = "idx_production_records_date_id", columnList = "date, record_id")
+})
 public class ProductionRecord {
 
     @Id
@@ -19,5 +25,7 @@ public class ProductionRecord {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "plan_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private ProductionPlan plan;
 }
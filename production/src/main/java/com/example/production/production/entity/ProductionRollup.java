@@ -0,0 +1,36 @@
+package com.example.production.production.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDate;
+
+// Pre-aggregated volumes per plan, asset and bucket; a plan moved to another asset keeps its old rows
+// under the old asset, so asset trends need no join and stay correct across the move
+@Entity
+@Data
+@Table(name = "production_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_production_rollups_bucket_plan_asset",
+                columnNames = { "granularity", "bucket_start", "plan_id", "asset_id" }),
+        indexes = @Index(name = "idx_production_rollups_asset_bucket",
+                columnList = "granularity, asset_id, bucket_start"))
+public class ProductionRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rollupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private RollupGranularity granularity;
+
+    @Column(nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(nullable = false)
+    private Long planId;
+
+    private Long assetId;
+    private Double actualVolume;
+    private Double plannedVolume;
+    private Long recordCount;
+}
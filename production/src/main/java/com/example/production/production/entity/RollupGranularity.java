@@ -0,0 +1,39 @@
+package com.example.production.production.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+// Bucket sizes kept in production_rollups, finest first
+public enum RollupGranularity {
+    DAY,
+    WEEK,
+    MONTH;
+
+    // First day of the bucket containing the date (weeks start on Monday)
+    public LocalDate bucketStart(LocalDate date) {
+        switch (this) {
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH:
+                return date.withDayOfMonth(1);
+            default:
+                return date;
+        }
+    }
+
+    // Number of buckets of this size needed to cover [from, to]
+    public long bucketsBetween(LocalDate from, LocalDate to) {
+        LocalDate first = bucketStart(from);
+        LocalDate last = bucketStart(to);
+        switch (this) {
+            case WEEK:
+                return ChronoUnit.WEEKS.between(first, last) + 1;
+            case MONTH:
+                return ChronoUnit.MONTHS.between(first, last) + 1;
+            default:
+                return ChronoUnit.DAYS.between(first, last) + 1;
+        }
+    }
+}
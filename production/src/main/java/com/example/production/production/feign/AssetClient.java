@@ -14,4 +14,7 @@ public interface AssetClient {
 
     @GetMapping("/api/assets")
     List<AssetDTO> getAllAssets();
+
+    @PostMapping("/api/assets/batch")
+    List<AssetDTO> getAssetsByIds(@RequestBody List<Long> ids);
 }
@@ -0,0 +1,30 @@
+package com.example.production.production.repository;
+
+import com.example.production.production.entity.AssetProductionTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AssetProductionTotalRepository extends JpaRepository<AssetProductionTotal, Long> {
+
+    // Atomic upsert, so concurrent writers for the same asset never lose an increment
+    @Modifying
+    @Query(value = "insert into production_asset_totals (asset_id, actual_volume, planned_volume, record_count) " +
+                   "values (:assetId, :actualVolume, :plannedVolume, :recordCount) " +
+                   "on duplicate key update actual_volume = actual_volume + :actualVolume, " +
+                   "planned_volume = planned_volume + :plannedVolume, " +
+                   "record_count = record_count + :recordCount", nativeQuery = true)
+    int addToTotals(@Param("assetId") Long assetId,
+                    @Param("actualVolume") double actualVolume,
+                    @Param("plannedVolume") double plannedVolume,
+                    @Param("recordCount") long recordCount);
+
+    @Modifying
+    @Query(value = "insert into production_asset_totals (asset_id, actual_volume, planned_volume, record_count) " +
+                   "select r.asset_id, coalesce(sum(r.actual_volume), 0), " +
+                   "coalesce(sum(p.daily_planned_volume), 0), count(*) " +
+                   "from production_records r left join production_plans p on p.plan_id = r.plan_id " +
+                   "where r.asset_id is not null group by r.asset_id", nativeQuery = true)
+    int rebuildFromRecords();
+}
@@ -0,0 +1,26 @@
+package com.example.production.production.repository;
+
+import com.example.production.production.entity.PlanProductionTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PlanProductionTotalRepository extends JpaRepository<PlanProductionTotal, Long> {
+
+    // Atomic upsert, so concurrent writers for the same plan never lose an increment
+    @Modifying
+    @Query(value = "insert into production_plan_totals (plan_id, actual_volume, record_count) " +
+                   "values (:planId, :actualVolume, :recordCount) " +
+                   "on duplicate key update actual_volume = actual_volume + :actualVolume, " +
+                   "record_count = record_count + :recordCount", nativeQuery = true)
+    int addToTotals(@Param("planId") Long planId,
+                    @Param("actualVolume") double actualVolume,
+                    @Param("recordCount") long recordCount);
+
+    @Modifying
+    @Query(value = "insert into production_plan_totals (plan_id, actual_volume, record_count) " +
+                   "select plan_id, coalesce(sum(actual_volume), 0), count(*) from production_records " +
+                   "where plan_id is not null group by plan_id", nativeQuery = true)
+    int rebuildFromRecords();
+}
@@ -2,5 +2,36 @@ package com.example.production.production.repository;
 
 import com.example.production.production.entity.ProductionPlan;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductionPlanRepository extends JpaRepository<ProductionPlan, Long> {}
+import java.time.LocalDate;
+
+public interface ProductionPlanRepository extends JpaRepository<ProductionPlan, Long> {
+
+    // One set-based update for plans saved before daily_planned_volume was persisted
+    @Modifying
+    @Query(value = "update production_plans set daily_planned_volume = " +
+                   "case when planned_volume is null or start_date is null or end_date is null " +
+                   "or datediff(end_date, start_date) < 0 then 0 " +
+                   "else planned_volume / (datediff(end_date, start_date) + 1) end " +
+                   "where daily_planned_volume is null", nativeQuery = true)
+    int backfillDailyPlannedVolume();
+
+    /* ================= BULK STATUS / DELETE ================= */
+
+    @Modifying(clearAutomatically = true)
+    @Query("update ProductionPlan p set p.status = :status where p.planId = :planId")
+    int updateStatus(@Param("planId") Long planId, @Param("status") String status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update ProductionPlan p set p.status = :status " +
+           "where p.endDate < :endedBefore and (p.status is null or p.status <> :status)")
+    int updateStatusEndedBefore(@Param("endedBefore") LocalDate endedBefore, @Param("status") String status);
+
+    // Deletes the plan row only; records are removed first with ProductionRecordRepository.deleteByPlanId
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ProductionPlan p where p.planId = :planId")
+    int deletePlanById(@Param("planId") Long planId);
+}
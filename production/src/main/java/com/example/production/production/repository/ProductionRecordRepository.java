@@ -1,12 +1,122 @@
 package com.example.production.production.repository;
 
 import com.example.production.production.entity.ProductionRecord;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ProductionRecordRepository
         extends JpaRepository<ProductionRecord, Long> {
 
+    // MySQL Connector/J only streams rows (instead of buffering the whole result) with this fetch size
+    String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    // List reads load each record's plan in the same query (daily target comes from the plan)
+    @EntityGraph(attributePaths = "plan")
+    @Query("select r from ProductionRecord r")
+    List<ProductionRecord> findAllWithPlan();
+
+    @EntityGraph(attributePaths = "plan")
     List<ProductionRecord> findByPlan_PlanId(Long planId);
+
+    /* ================= RANGE QUERIES ================= */
+
+    // Served by idx_production_records_asset_date, or idx_production_records_date_id without an asset
+    @EntityGraph(attributePaths = "plan")
+    @Query("select r from ProductionRecord r " +
+           "where (:assetId is null or r.assetId = :assetId) " +
+           "and (:from is null or r.date >= :from) " +
+           "and (:to is null or r.date <= :to) " +
+           "order by r.date asc, r.recordId asc")
+    List<ProductionRecord> findInRange(@Param("assetId") Long assetId,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+
+    /* ================= KEYSET PAGINATION (date, recordId) ================= */
+
+    @EntityGraph(attributePaths = "plan")
+    @Query("select r from ProductionRecord r " +
+           "where r.date is not null " +
+           "order by r.date asc, r.recordId asc")
+    List<ProductionRecord> findFirstPage(Pageable pageable);
+
+    @EntityGraph(attributePaths = "plan")
+    @Query("select r from ProductionRecord r " +
+           "where r.date > :date or (r.date = :date and r.recordId > :recordId) " +
+           "order by r.date asc, r.recordId asc")
+    List<ProductionRecord> findPageAfter(@Param("date") LocalDate date,
+                                         @Param("recordId") Long recordId,
+                                         Pageable pageable);
+
+    /* ================= STREAMING ================= */
+
+    // Must be consumed inside a transaction and closed after use
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @EntityGraph(attributePaths = "plan")
+    @Query("select r from ProductionRecord r order by r.date asc, r.recordId asc")
+    Stream<ProductionRecord> streamAllOrdered();
+
+    /* ================= ROLLUPS ================= */
+
+    @Query("select r.date as date, sum(r.actualVolume) as actualVolume, " +
+           "sum(coalesce(p.dailyPlannedVolume, 0.0)) as plannedVolume, count(r) as recordCount " +
+           "from ProductionRecord r left join r.plan p " +
+           "where r.date is not null " +
+           "and (:assetId is null or r.assetId = :assetId) " +
+           "and (:from is null or r.date >= :from) " +
+           "and (:to is null or r.date <= :to) " +
+           "group by r.date order by r.date")
+    List<DateVolume> sumByDate(@Param("assetId") Long assetId,
+                               @Param("from") LocalDate from,
+                               @Param("to") LocalDate to);
+
+    @Query("select r.assetId as assetId, sum(r.actualVolume) as actualVolume, " +
+           "sum(coalesce(p.dailyPlannedVolume, 0.0)) as plannedVolume, count(r) as recordCount " +
+           "from ProductionRecord r left join r.plan p " +
+           "where (:assetId is null or r.assetId = :assetId) " +
+           "and (:from is null or r.date >= :from) " +
+           "and (:to is null or r.date <= :to) " +
+           "group by r.assetId")
+    List<AssetVolume> sumByAsset(@Param("assetId") Long assetId,
+                                 @Param("from") LocalDate from,
+                                 @Param("to") LocalDate to);
+
+    // Per-asset totals of one plan's records; records keep their own asset id when the plan's changes
+    @Query("select r.assetId as assetId, sum(r.actualVolume) as actualVolume, " +
+           "sum(coalesce(p.dailyPlannedVolume, 0.0)) as plannedVolume, count(r) as recordCount " +
+           "from ProductionRecord r join r.plan p " +
+           "where p.planId = :planId and r.assetId is not null " +
+           "group by r.assetId")
+    List<AssetVolume> sumByAssetForPlan(@Param("planId") Long planId);
+
+    /* ================= BULK DELETE ================= */
+
+    // One statement over idx_production_records_plan_date; records are never loaded
+    @Modifying
+    @Query("delete from ProductionRecord r where r.plan.planId = :planId")
+    int deleteByPlanId(@Param("planId") Long planId);
+
+    interface DateVolume {
+        LocalDate getDate();
+        Double getActualVolume();
+        Double getPlannedVolume();
+        Long getRecordCount();
+    }
+
+    interface AssetVolume {
+        Long getAssetId();
+        Double getActualVolume();
+        Double getPlannedVolume();
+        Long getRecordCount();
+    }
 }
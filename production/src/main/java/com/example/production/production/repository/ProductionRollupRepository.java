@@ -0,0 +1,111 @@
+package com.example.production.production.repository;
+
+import com.example.production.production.entity.ProductionRollup;
+import com.example.production.production.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ProductionRollupRepository extends JpaRepository<ProductionRollup, Long> {
+
+    // Atomic upsert on (granularity, bucket_start, plan_id, asset_id)
+    @Modifying
+    @Query(value = "insert into production_rollups " +
+                   "(granularity, bucket_start, plan_id, asset_id, actual_volume, planned_volume, record_count) " +
+                   "values (:granularity, :bucketStart, :planId, :assetId, :actualVolume, :plannedVolume, :recordCount) " +
+                   "on duplicate key update actual_volume = actual_volume + :actualVolume, " +
+                   "planned_volume = planned_volume + :plannedVolume, " +
+                   "record_count = record_count + :recordCount", nativeQuery = true)
+    int addToBucket(@Param("granularity") String granularity,
+                    @Param("bucketStart") LocalDate bucketStart,
+                    @Param("planId") Long planId,
+                    @Param("assetId") Long assetId,
+                    @Param("actualVolume") double actualVolume,
+                    @Param("plannedVolume") double plannedVolume,
+                    @Param("recordCount") long recordCount);
+
+    // A plan's daily target changed: every bucket of the plan moves by its record count
+    @Modifying
+    @Query("update ProductionRollup r set r.plannedVolume = r.plannedVolume + r.recordCount * :delta " +
+           "where r.planId = :planId")
+    int shiftPlannedVolume(@Param("planId") Long planId, @Param("delta") double delta);
+
+    @Modifying
+    @Query("delete from ProductionRollup r where r.planId = :planId")
+    int deleteByPlanId(@Param("planId") Long planId);
+
+    /* ================= TREND READS ================= */
+
+    // Buckets of one granularity summed over plans; a few rows per bucket regardless of record volume
+    @Query("select r.bucketStart as bucketStart, sum(r.actualVolume) as actualVolume, " +
+           "sum(r.plannedVolume) as plannedVolume, sum(r.recordCount) as recordCount " +
+           "from ProductionRollup r " +
+           "where r.granularity = :granularity " +
+           "and r.bucketStart >= :from and r.bucketStart <= :to " +
+           "and (:assetId is null or r.assetId = :assetId) " +
+           "and (:planId is null or r.planId = :planId) " +
+           "group by r.bucketStart order by r.bucketStart")
+    List<BucketVolume> sumByBucket(@Param("granularity") RollupGranularity granularity,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to,
+                                   @Param("assetId") Long assetId,
+                                   @Param("planId") Long planId);
+
+    @Query("select min(r.bucketStart) from ProductionRollup r where r.granularity = :granularity")
+    LocalDate findFirstBucket(@Param("granularity") RollupGranularity granularity);
+
+    @Query("select max(r.bucketStart) from ProductionRollup r where r.granularity = :granularity")
+    LocalDate findLastBucket(@Param("granularity") RollupGranularity granularity);
+
+    interface BucketVolume {
+        LocalDate getBucketStart();
+        Double getActualVolume();
+        Double getPlannedVolume();
+        Long getRecordCount();
+    }
+
+    /* ================= SEEDING ================= */
+
+    // The first rollup schema keyed rows by plan only; ddl-auto adds the new key but never drops the old one
+    @Query(value = "select count(*) from information_schema.statistics where table_schema = database() " +
+                   "and table_name = 'production_rollups' and index_name = 'uk_production_rollups_bucket_plan'",
+           nativeQuery = true)
+    long countPlanOnlyKey();
+
+    @Modifying
+    @Query(value = "alter table production_rollups drop index uk_production_rollups_bucket_plan", nativeQuery = true)
+    void dropPlanOnlyKey();
+
+    @Modifying
+    @Query(value = "insert into production_rollups " +
+                   "(granularity, bucket_start, plan_id, asset_id, actual_volume, planned_volume, record_count) " +
+                   "select 'DAY', r.date, r.plan_id, r.asset_id, coalesce(sum(r.actual_volume), 0), " +
+                   "count(*) * coalesce(max(p.daily_planned_volume), 0), count(*) " +
+                   "from production_records r join production_plans p on p.plan_id = r.plan_id " +
+                   "where r.date is not null group by r.date, r.plan_id, r.asset_id", nativeQuery = true)
+    int rebuildDaily();
+
+    @Modifying
+    @Query(value = "insert into production_rollups " +
+                   "(granularity, bucket_start, plan_id, asset_id, actual_volume, planned_volume, record_count) " +
+                   "select 'WEEK', date_sub(r.date, interval weekday(r.date) day), r.plan_id, r.asset_id, " +
+                   "coalesce(sum(r.actual_volume), 0), count(*) * coalesce(max(p.daily_planned_volume), 0), count(*) " +
+                   "from production_records r join production_plans p on p.plan_id = r.plan_id " +
+                   "where r.date is not null " +
+                   "group by date_sub(r.date, interval weekday(r.date) day), r.plan_id, r.asset_id", nativeQuery = true)
+    int rebuildWeekly();
+
+    @Modifying
+    @Query(value = "insert into production_rollups " +
+                   "(granularity, bucket_start, plan_id, asset_id, actual_volume, planned_volume, record_count) " +
+                   "select 'MONTH', date_sub(r.date, interval dayofmonth(r.date) - 1 day), r.plan_id, r.asset_id, " +
+                   "coalesce(sum(r.actual_volume), 0), count(*) * coalesce(max(p.daily_planned_volume), 0), count(*) " +
+                   "from production_records r join production_plans p on p.plan_id = r.plan_id " +
+                   "where r.date is not null " +
+                   "group by date_sub(r.date, interval dayofmonth(r.date) - 1 day), r.plan_id, r.asset_id", nativeQuery = true)
+    int rebuildMonthly();
+}
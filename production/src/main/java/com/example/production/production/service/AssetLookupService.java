@@ -0,0 +1,86 @@
+package com.example.production.production.service;
+
+import com.example.production.production.dto.AssetDTO;
+import com.example.production.production.feign.AssetClient;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class AssetLookupService {
+
+    // Caffeine cache configured in application.properties (size bound, TTL, stats)
+    public static final String ASSET_CACHE = "assets";
+
+    // Upper bound on ids sent in one POST /api/assets/batch call
+    private static final int BATCH_SIZE = 500;
+
+    private final AssetClient assetClient;
+    private final CacheManager cacheManager;
+
+    public AssetLookupService(AssetClient assetClient, CacheManager cacheManager) {
+        this.assetClient = assetClient;
+        this.cacheManager = cacheManager;
+    }
+
+    
+    @Cacheable(cacheNames = ASSET_CACHE, key = "#assetId")
+    public AssetDTO getAsset(Long assetId) {
+        return assetClient.getAssetById(assetId);
+    }
+
+    
+    // Serves cached assets first, then resolves the misses in as few batched calls as possible
+    public Map<Long, AssetDTO> getAssets(Collection<Long> assetIds) {
+        Cache cache = cacheManager.getCache(ASSET_CACHE);
+
+        Map<Long, AssetDTO> assets = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long assetId : new LinkedHashSet<>(assetIds)) {
+            if (assetId == null) {
+                continue;
+            }
+            AssetDTO cached = cache != null ? cache.get(assetId, AssetDTO.class) : null;
+            if (cached != null) {
+                assets.put(assetId, cached);
+            } else {
+                misses.add(assetId);
+            }
+        }
+
+        for (int start = 0; start < misses.size(); start += BATCH_SIZE) {
+            List<Long> chunk = misses.subList(start, Math.min(start + BATCH_SIZE, misses.size()));
+            for (AssetDTO asset : assetClient.getAssetsByIds(chunk)) {
+                assets.put(asset.getAssetId(), asset);
+                if (cache != null) {
+                    cache.put(asset.getAssetId(), asset);
+                }
+            }
+        }
+        return assets;
+    }
+
+    
+    public void evict(Collection<Long> assetIds) {
+        Cache cache = cacheManager.getCache(ASSET_CACHE);
+        if (cache == null) {
+            return;
+        }
+        assetIds.stream().filter(Objects::nonNull).forEach(cache::evict);
+    }
+
+    
+    @CacheEvict(cacheNames = ASSET_CACHE, allEntries = true)
+    public void evictAll() {
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.production.production.service;
+
+import com.example.production.production.dto.AssetDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class ProductionExportService {
+
+    private static final String CSV_HEADER =
+            "record_id,date,asset_id,asset_name,plan_id,actual_volume,daily_planned_target";
+
+    private static final String EXPORT_SQL =
+            "select r.record_id, r.date, r.asset_id, r.plan_id, r.actual_volume, " +
+            "coalesce(p.daily_planned_volume, 0) as daily_planned_target " +
+            "from production_records r left join production_plans p on p.plan_id = r.plan_id";
+
+    private final AssetLookupService assetLookup;
+    private final JdbcTemplate jdbcTemplate;
+    // Separate template so only the export runs with a forward-only streaming cursor
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public ProductionExportService(AssetLookupService assetLookup, JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.assetLookup = assetLookup;
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J streams row by row only with this fetch size
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    
+    // Streams matching records as CSV (optionally gzip-compressed); memory use does not grow with row count
+    public void exportCsv(OutputStream out, Long assetId, LocalDate from, LocalDate to, boolean compress)
+            throws IOException {
+
+        List<Object> params = new ArrayList<>();
+        String where = whereClause(assetId, from, to, params);
+
+        // Asset names for the whole export, resolved before the cursor is opened
+        List<Long> assetIds = jdbcTemplate.queryForList(
+                "select distinct r.asset_id from production_records r" + where, Long.class, params.toArray());
+        Map<Long, AssetDTO> assets = assetLookup.getAssets(assetIds);
+
+        GZIPOutputStream gzip = compress ? new GZIPOutputStream(out, 64 * 1024) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzip != null ? gzip : out, StandardCharsets.UTF_8), 64 * 1024);
+
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        try {
+            streamingJdbcTemplate.query(EXPORT_SQL + where + " order by r.date, r.record_id", (RowCallbackHandler) rs -> {
+                Long recordAssetId = rs.getObject("asset_id", Long.class);
+                AssetDTO asset = recordAssetId != null ? assets.get(recordAssetId) : null;
+                Date date = rs.getDate("date");
+                try {
+                    writer.write(Long.toString(rs.getLong("record_id")));
+                    writer.write(',');
+                    writer.write(date != null ? date.toLocalDate().toString() : "");
+                    writer.write(',');
+                    writer.write(nullable(recordAssetId));
+                    writer.write(',');
+                    writer.write(csv(asset != null ? asset.getName() : null));
+                    writer.write(',');
+                    writer.write(nullable(rs.getObject("plan_id", Long.class)));
+                    writer.write(',');
+                    writer.write(nullable(rs.getObject("actual_volume", Double.class)));
+                    writer.write(',');
+                    writer.write(Double.toString(rs.getDouble("daily_planned_target")));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, params.toArray());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+        out.flush();
+    }
+
+    
+    private String whereClause(Long assetId, LocalDate from, LocalDate to, List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+        if (assetId != null) {
+            conditions.add("r.asset_id = ?");
+            params.add(assetId);
+        }
+        if (from != null) {
+            conditions.add("r.date >= ?");
+            params.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            conditions.add("r.date <= ?");
+            params.add(Date.valueOf(to));
+        }
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+
+    
+    private static String nullable(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -4,19 +4,43 @@ import com.example.production.production.dto.*;
 import com.example.production.production.entity.ProductionPlan;
 import com.example.production.production.feign.AssetClient;
 import com.example.production.production.repository.ProductionPlanRepository;
+import com.example.production.production.repository.ProductionRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class ProductionPlanService {
 
+    private static final Logger log = LoggerFactory.getLogger(ProductionPlanService.class);
+
+    private static final String ARCHIVED_STATUS = "ARCHIVED";
+
     private final ProductionPlanRepository repository;
+    private final ProductionRecordRepository recordRepository;
     private final AssetClient assetClient;
-
-    public ProductionPlanService(ProductionPlanRepository repository, AssetClient assetClient) {
+    private final AssetLookupService assetLookup;
+    private final ProductionTotalsService totalsService;
+    private final ProductionRollupService rollupService;
+
+    public ProductionPlanService(ProductionPlanRepository repository, ProductionRecordRepository recordRepository,
+                                 AssetClient assetClient,
+                                 AssetLookupService assetLookup, ProductionTotalsService totalsService,
+                                 ProductionRollupService rollupService) {
         this.repository = repository;
+        this.recordRepository = recordRepository;
         this.assetClient = assetClient;
+        this.assetLookup = assetLookup;
+        this.totalsService = totalsService;
+        this.rollupService = rollupService;
     }
 
     
@@ -35,9 +59,11 @@ public class ProductionPlanService {
 
     
     public List<ProductionPlanResponseDTO> getAllPlans() {
-        return repository.findAll()
-                .stream()
-                .map(this::map)
+        List<ProductionPlan> plans = repository.findAll();
+        Map<Long, AssetDTO> assets = assetLookup.getAssets(
+                plans.stream().map(ProductionPlan::getAssetId).collect(Collectors.toList()));
+        return plans.stream()
+                .map(plan -> map(plan, assets.get(plan.getAssetId())))
                 .collect(Collectors.toList());
     }
 
@@ -49,21 +75,30 @@ public class ProductionPlanService {
     }
 
     
+    @Transactional
     public ProductionPlanResponseDTO updatePlan(Long id, ProductionPlanRequestDTO dto) {
         ProductionPlan plan = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Plan not found with id " + id));
 
+        double oldDailyTarget = plan.getDailyPlannedVolume();
+
         plan.setAssetId(dto.getAssetId());
         plan.setPlannedVolume(dto.getPlannedVolume());
         plan.setStartDate(dto.getStartDate());
         plan.setEndDate(dto.getEndDate());
         plan.setStatus(dto.getStatus());
+        plan.computeDailyPlannedVolume();
+
+        // Existing records keep their asset id, so only the planned side of their assets' totals moves
+        totalsService.planTargetChanged(plan.getPlanId(), oldDailyTarget, plan.getDailyPlannedVolume());
+        rollupService.planTargetChanged(plan.getPlanId(), oldDailyTarget, plan.getDailyPlannedVolume());
 
         return map(repository.save(plan));
     }
 
     
 
+    @Transactional
     public ProductionPlanResponseDTO deletePlan(Long id) {
         
         ProductionPlan plan = repository.findById(id)
@@ -73,20 +108,43 @@ public class ProductionPlanService {
         ProductionPlanResponseDTO response = map(plan);
 
         
-        repository.delete(plan);
+        // Set-based: records, rollups and the plan row go in a few statements, nothing is loaded per record
+        totalsService.planRemoved(plan);
+        rollupService.planRemoved(plan.getPlanId());
+        recordRepository.deleteByPlanId(plan.getPlanId());
+        repository.deletePlanById(plan.getPlanId());
 
         return response;
     }
 
     
+    @Transactional
+    public ProductionPlanResponseDTO archivePlan(Long id) {
+        if (repository.updateStatus(id, ARCHIVED_STATUS) == 0) {
+            throw new RuntimeException("Plan not found with id " + id);
+        }
+        return getPlanById(id);
+    }
+
+    
+    // Archives every plan that ended before the given date in one UPDATE; records stay in place
+    @Transactional
+    public int archivePlansEndedBefore(LocalDate endedBefore) {
+        return repository.updateStatusEndedBefore(endedBefore, ARCHIVED_STATUS);
+    }
+
+    
     public void processProduction() {
         assetClient.getAllAssets();
     }
 
     
     private ProductionPlanResponseDTO map(ProductionPlan plan) {
-        AssetDTO asset = assetClient.getAssetById(plan.getAssetId());
+        return map(plan, assetLookup.getAsset(plan.getAssetId()));
+    }
 
+    
+    private ProductionPlanResponseDTO map(ProductionPlan plan, AssetDTO asset) {
         ProductionPlanResponseDTO dto = new ProductionPlanResponseDTO();
         dto.setPlanId(plan.getPlanId());
         dto.setAssetId(plan.getAssetId());
@@ -102,4 +160,16 @@ public class ProductionPlanService {
     public int getCount() {
         return (int) repository.count();
     }
+
+    
+    // Runs before the totals are seeded, which read the backfilled column
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Transactional
+    public void backfillDailyPlannedVolume() {
+        int updated = repository.backfillDailyPlannedVolume();
+        if (updated > 0) {
+            log.info("Backfilled daily planned volume for {} production plans", updated);
+        }
+    }
 }
@@ -3,31 +3,71 @@ package com.example.production.production.service;
 import com.example.production.production.dto.*;
 import com.example.production.production.entity.ProductionPlan;
 import com.example.production.production.entity.ProductionRecord;
-import com.example.production.production.feign.AssetClient;
 import com.example.production.production.repository.ProductionPlanRepository;
 import com.example.production.production.repository.ProductionRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ProductionRecordService {
 
     private final ProductionRecordRepository recordRepository;
     private final ProductionPlanRepository planRepository;
-    private final AssetClient assetClient;
+    private final AssetLookupService assetLookup;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductionTotalsService totalsService;
+    private final ProductionRollupService rollupService;
+
+    // Page size limits for keyset pagination, and rows per chunk when streaming
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String INSERT_RECORD_SQL =
+            "insert into production_records (plan_id, asset_id, actual_volume, date) values (?, ?, ?, ?)";
 
     public ProductionRecordService(
             ProductionRecordRepository recordRepository,
             ProductionPlanRepository planRepository,
-            AssetClient assetClient) {
+            AssetLookupService assetLookup,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            JdbcTemplate jdbcTemplate,
+            ProductionTotalsService totalsService,
+            ProductionRollupService rollupService) {
         this.recordRepository = recordRepository;
         this.planRepository = planRepository;
-        this.assetClient = assetClient;
+        this.assetLookup = assetLookup;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.totalsService = totalsService;
+        this.rollupService = rollupService;
     }
 
     
+    @Transactional
     public ProductionRecordResponseDTO saveRecord(ProductionRecordRequestDTO dto) {
 
         ProductionPlan plan = planRepository.findById(dto.getPlanId())
@@ -41,15 +81,177 @@ public class ProductionRecordService {
         record.setDate(dto.getDate());
 
         ProductionRecord saved = recordRepository.save(record);
+        totalsService.recordAdded(saved);
+        rollupService.recordAdded(saved);
         return map(saved);
     }
 
     
-    public List<ProductionRecordResponseDTO> getAllRecords() {
-        return recordRepository.findAll()
+    // Validates every row, rejects bad ones individually and inserts the rest with JDBC batching
+    @Transactional
+    public ProductionRecordBulkResultDTO saveRecordsBulk(List<ProductionRecordRequestDTO> dtos) {
+        ProductionRecordBulkResultDTO result = new ProductionRecordBulkResultDTO();
+        result.setReceived(dtos.size());
+
+        // All referenced plans in one query
+        Set<Long> planIds = dtos.stream()
+                .filter(Objects::nonNull)
+                .map(ProductionRecordRequestDTO::getPlanId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ProductionPlan> plans = planRepository.findAllById(planIds)
                 .stream()
-                .map(this::map)
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(ProductionPlan::getPlanId, plan -> plan));
+
+        List<ProductionRecord> rows = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            ProductionRecordRequestDTO dto = dtos.get(i);
+            String error = validateBulkRow(dto, plans);
+            if (error != null) {
+                result.getErrors().add(new ProductionRecordBulkResultDTO.RowError(i, error));
+                continue;
+            }
+            ProductionPlan plan = plans.get(dto.getPlanId());
+            ProductionRecord row = new ProductionRecord();
+            row.setPlan(plan);
+            row.setAssetId(plan.getAssetId());
+            row.setActualVolume(dto.getActualVolume());
+            row.setDate(dto.getDate());
+            rows.add(row);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_RECORD_SQL, rows, INSERT_BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.getPlan().getPlanId());
+            ps.setObject(2, row.getAssetId());
+            ps.setDouble(3, row.getActualVolume());
+            ps.setDate(4, Date.valueOf(row.getDate()));
+        });
+        totalsService.recordsAdded(rows);
+        rollupService.recordsAdded(rows);
+        result.setInserted(rows.size());
+
+        return result;
+    }
+
+    
+    private String validateBulkRow(ProductionRecordRequestDTO dto, Map<Long, ProductionPlan> plans) {
+        if (dto == null) {
+            return "Record is empty";
+        }
+        if (dto.getPlanId() == null) {
+            return "planId is required";
+        }
+        if (!plans.containsKey(dto.getPlanId())) {
+            return "Production Plan not found with id " + dto.getPlanId();
+        }
+        if (dto.getActualVolume() == null || dto.getActualVolume() < 0) {
+            return "actualVolume must be zero or positive";
+        }
+        if (dto.getDate() == null) {
+            return "date is required";
+        }
+        return null;
+    }
+
+    
+    public List<ProductionRecordResponseDTO> getAllRecords() {
+        return mapAll(recordRepository.findAllWithPlan());
+    }
+
+    
+    public List<ProductionRecordResponseDTO> getRecordsInRange(Long assetId, LocalDate from, LocalDate to) {
+        if (assetId == null && from == null && to == null) {
+            return getAllRecords();
+        }
+        return mapAll(recordRepository.findInRange(assetId, from, to));
+    }
+
+    
+    // Keyset pagination ordered by (date, recordId); cursor is "<date>:<recordId>" of the last row seen
+    public ProductionRecordPageDTO getRecordsPage(String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ProductionRecord> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = recordRepository.findFirstPage(limit);
+        } else {
+            PageCursor after = PageCursor.parse(cursor);
+            rows = recordRepository.findPageAfter(after.date(), after.recordId(), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        ProductionRecordPageDTO page = new ProductionRecordPageDTO();
+        page.setRecords(mapAll(rows));
+        page.setHasMore(hasMore);
+        if (hasMore) {
+            ProductionRecord last = rows.get(rows.size() - 1);
+            page.setNextCursor(new PageCursor(last.getDate(), last.getRecordId()).toString());
+        }
+        return page;
+    }
+
+    
+    // Position of the last row of a page: "<date>:<recordId>"
+    record PageCursor(LocalDate date, long recordId) {
+
+        static PageCursor parse(String cursor) {
+            String[] parts = cursor.trim().split(":", -1);
+            if (parts.length != 2) {
+                throw new RuntimeException("Invalid cursor " + cursor);
+            }
+            try {
+                return new PageCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new RuntimeException("Invalid cursor " + cursor);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return date + ":" + recordId;
+        }
+    }
+
+    
+    // Writes every record as one JSON line; memory stays bounded by STREAM_CHUNK_SIZE
+    @Transactional(readOnly = true)
+    public void streamRecords(OutputStream out) throws IOException {
+        List<ProductionRecord> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        try (Stream<ProductionRecord> records = recordRepository.streamAllOrdered()) {
+            records.forEach(record -> {
+                chunk.add(record);
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    writeChunk(chunk, out);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writeChunk(chunk, out);
+    }
+
+    
+    private void writeChunk(List<ProductionRecord> chunk, OutputStream out) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            for (ProductionRecordResponseDTO dto : mapAll(chunk)) {
+                out.write(objectMapper.writeValueAsBytes(dto));
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        chunk.clear();
+        // Detach the rows already written so the persistence context does not grow with the stream
+        entityManager.clear();
     }
 
     
@@ -61,6 +263,7 @@ public class ProductionRecordService {
     }
 
     
+    @Transactional
     public ProductionRecordResponseDTO updateRecord(Long id, ProductionRecordRequestDTO dto) {
 
         ProductionRecord record = recordRepository.findById(id)
@@ -71,26 +274,43 @@ public class ProductionRecordService {
                 .orElseThrow(() -> new RuntimeException(
                         "Plan not found with id " + dto.getPlanId()));
 
+        // Take the old values out of the totals before they are overwritten
+        totalsService.recordRemoved(record);
+        rollupService.recordRemoved(record);
+
         record.setPlan(plan);
         record.setAssetId(plan.getAssetId());
         record.setActualVolume(dto.getActualVolume());
         record.setDate(dto.getDate());
 
-        return map(recordRepository.save(record));
+        ProductionRecord saved = recordRepository.save(record);
+        totalsService.recordAdded(saved);
+        rollupService.recordAdded(saved);
+        return map(saved);
     }
 
     
     public List<ProductionRecordResponseDTO> getRecordsByPlan(Long planId) {
-        return recordRepository.findByPlan_PlanId(planId)
-                .stream()
-                .map(this::map)
-                .collect(Collectors.toList());
+        return mapAll(recordRepository.findByPlan_PlanId(planId));
     }
 
     
     private ProductionRecordResponseDTO map(ProductionRecord record) {
+        return map(record, assetLookup.getAsset(record.getAssetId()));
+    }
+
+    
+    // List paths resolve all distinct asset ids up front instead of one call per row
+    private List<ProductionRecordResponseDTO> mapAll(List<ProductionRecord> records) {
+        Map<Long, AssetDTO> assets = assetLookup.getAssets(
+                records.stream().map(ProductionRecord::getAssetId).collect(Collectors.toList()));
+        return records.stream()
+                .map(record -> map(record, assets.get(record.getAssetId())))
+                .collect(Collectors.toList());
+    }
 
-        AssetDTO asset = assetClient.getAssetById(record.getAssetId());
+    
+    private ProductionRecordResponseDTO map(ProductionRecord record, AssetDTO asset) {
 
         ProductionRecordResponseDTO dto = new ProductionRecordResponseDTO();
         dto.setRecordId(record.getRecordId());
@@ -104,15 +324,52 @@ public class ProductionRecordService {
         return dto;
     }
 
+    @Transactional
     public ProductionRecordResponseDTO deleteRecord(Long id) {
         ProductionRecord record = recordRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException(
                         "Record not found with id " + id));
         recordRepository.delete(record);
+        totalsService.recordRemoved(record);
+        rollupService.recordRemoved(record);
         return map(record);
     }
 
     public int getCount() {
         return (int) recordRepository.count();
     }
+
+    /* ================= ROLLUPS ================= */
+
+    public List<ProductionDailyTotalDTO> getDailyTotals(Long assetId, LocalDate from, LocalDate to) {
+        return recordRepository.sumByDate(assetId, from, to)
+                .stream()
+                .map(group -> {
+                    ProductionDailyTotalDTO dto = new ProductionDailyTotalDTO();
+                    dto.setDate(group.getDate());
+                    dto.setActualVolume(nullToZero(group.getActualVolume()));
+                    dto.setPlannedVolume(nullToZero(group.getPlannedVolume()));
+                    dto.setRecordCount(group.getRecordCount());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    public List<ProductionAssetTotalDTO> getAssetTotals(Long assetId, LocalDate from, LocalDate to) {
+        return recordRepository.sumByAsset(assetId, from, to)
+                .stream()
+                .map(group -> {
+                    ProductionAssetTotalDTO dto = new ProductionAssetTotalDTO();
+                    dto.setAssetId(group.getAssetId());
+                    dto.setActualVolume(nullToZero(group.getActualVolume()));
+                    dto.setPlannedVolume(nullToZero(group.getPlannedVolume()));
+                    dto.setRecordCount(group.getRecordCount());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static double nullToZero(Double value) {
+        return value != null ? value : 0.0;
+    }
 }
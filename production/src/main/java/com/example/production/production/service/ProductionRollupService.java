@@ -0,0 +1,185 @@
+package com.example.production.production.service;
+
+import com.example.production.production.dto.ProductionTrendDTO;
+import com.example.production.production.entity.ProductionPlan;
+import com.example.production.production.entity.ProductionRecord;
+import com.example.production.production.entity.RollupGranularity;
+import com.example.production.production.repository.ProductionRecordRepository;
+import com.example.production.production.repository.ProductionRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains daily, weekly and monthly rollups per plan and asset as records are written,
+ * and serves trends from them. A trend reads at most MAX_TREND_POINTS buckets per plan, so its
+ * cost depends on the chart width rather than on how many records the range contains.
+ */
+@Service
+public class ProductionRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductionRollupService.class);
+
+    // Upper bound on points in one trend; longer ranges move to a coarser bucket
+    private static final int MAX_TREND_POINTS = 120;
+
+    private final ProductionRollupRepository rollupRepository;
+    private final ProductionRecordRepository recordRepository;
+
+    public ProductionRollupService(ProductionRollupRepository rollupRepository,
+                                   ProductionRecordRepository recordRepository) {
+        this.rollupRepository = rollupRepository;
+        this.recordRepository = recordRepository;
+    }
+
+    /* ================= WRITE PATH ================= */
+
+    public void recordAdded(ProductionRecord record) {
+        apply(record, 1);
+    }
+
+    public void recordRemoved(ProductionRecord record) {
+        apply(record, -1);
+    }
+
+    // Bulk inserts: records are summed per bucket, plan and asset first, then upserted once each
+    public void recordsAdded(List<ProductionRecord> records) {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            Map<BucketKey, double[]> buckets = new HashMap<>();
+            for (ProductionRecord record : records) {
+                ProductionPlan plan = record.getPlan();
+                if (plan == null || plan.getPlanId() == null || record.getDate() == null) {
+                    continue;
+                }
+                BucketKey key = new BucketKey(granularity.bucketStart(record.getDate()),
+                        plan.getPlanId(), record.getAssetId());
+                double[] totals = buckets.computeIfAbsent(key, k -> new double[3]);
+                totals[0] += record.getActualVolume() != null ? record.getActualVolume() : 0.0;
+                totals[1] += plan.getDailyPlannedVolume();
+                totals[2] += 1;
+            }
+            buckets.forEach((key, t) -> rollupRepository.addToBucket(granularity.name(), key.bucketStart(),
+                    key.planId(), key.assetId(), t[0], t[1], (long) t[2]));
+        }
+    }
+
+    public void planTargetChanged(Long planId, double oldDailyTarget, double newDailyTarget) {
+        double delta = newDailyTarget - oldDailyTarget;
+        if (delta != 0) {
+            rollupRepository.shiftPlannedVolume(planId, delta);
+        }
+    }
+
+    public void planRemoved(Long planId) {
+        rollupRepository.deleteByPlanId(planId);
+    }
+
+    private void apply(ProductionRecord record, int sign) {
+        ProductionPlan plan = record.getPlan();
+        if (plan == null || plan.getPlanId() == null || record.getDate() == null) {
+            return;
+        }
+        double actual = record.getActualVolume() != null ? record.getActualVolume() : 0.0;
+        double planned = plan.getDailyPlannedVolume();
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            rollupRepository.addToBucket(granularity.name(), granularity.bucketStart(record.getDate()),
+                    plan.getPlanId(), record.getAssetId(), sign * actual, sign * planned, sign);
+        }
+    }
+
+    private record BucketKey(LocalDate bucketStart, Long planId, Long assetId) {
+    }
+
+    /* ================= TRENDS ================= */
+
+    public ProductionTrendDTO getTrend(LocalDate from, LocalDate to, Long assetId, Long planId,
+                                       String granularity) {
+        // Open ends default to the first/last day that has data
+        LocalDate start = from != null ? from : rollupRepository.findFirstBucket(RollupGranularity.DAY);
+        LocalDate end = to != null ? to : rollupRepository.findLastBucket(RollupGranularity.DAY);
+
+        ProductionTrendDTO trend = new ProductionTrendDTO();
+        if (start == null || end == null) {
+            trend.setGranularity(RollupGranularity.DAY.name());
+            return trend;
+        }
+        if (start.isAfter(end)) {
+            throw new RuntimeException("from must not be after to");
+        }
+
+        RollupGranularity bucket = granularity != null && !granularity.isBlank()
+                ? parseGranularity(granularity)
+                : pickGranularity(start, end);
+
+        trend.setGranularity(bucket.name());
+        trend.setFrom(start);
+        trend.setTo(end);
+        trend.setPoints(rollupRepository.sumByBucket(bucket, bucket.bucketStart(start), end, assetId, planId)
+                .stream()
+                .map(group -> {
+                    ProductionTrendDTO.Point point = new ProductionTrendDTO.Point();
+                    point.setDate(group.getBucketStart());
+                    point.setActualVolume(nullToZero(group.getActualVolume()));
+                    point.setPlannedVolume(nullToZero(group.getPlannedVolume()));
+                    point.setRecordCount(group.getRecordCount() != null ? group.getRecordCount() : 0);
+                    return point;
+                })
+                .collect(Collectors.toList()));
+        return trend;
+    }
+
+    // Finest bucket that still fits the range in MAX_TREND_POINTS; months beyond that
+    static RollupGranularity pickGranularity(LocalDate from, LocalDate to) {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            if (granularity.bucketsBetween(from, to) <= MAX_TREND_POINTS) {
+                return granularity;
+            }
+        }
+        return RollupGranularity.MONTH;
+    }
+
+    private static RollupGranularity parseGranularity(String granularity) {
+        try {
+            return RollupGranularity.valueOf(granularity.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid granularity " + granularity + ", expected DAY, WEEK or MONTH");
+        }
+    }
+
+    private static double nullToZero(Double value) {
+        return value != null ? value : 0.0;
+    }
+
+    /* ================= SEEDING ================= */
+
+    // Builds the rollups from existing records the first time the service runs with the table,
+    // or again after upgrading from the plan-only key
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    @Transactional
+    public void seedRollups() {
+        // Rows written under the old plan-only key may carry a moved plan's volume on one asset
+        if (rollupRepository.countPlanOnlyKey() > 0) {
+            rollupRepository.dropPlanOnlyKey();
+            rollupRepository.deleteAllInBatch();
+            log.info("Dropped the plan-only production rollup key, rebuilding rollups");
+        }
+        if (rollupRepository.count() > 0 || recordRepository.count() == 0) {
+            return;
+        }
+        int rows = rollupRepository.rebuildDaily()
+                + rollupRepository.rebuildWeekly()
+                + rollupRepository.rebuildMonthly();
+        log.info("Seeded {} production rollup rows", rows);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.production.production.service;
+
+import com.example.production.production.dto.ProductionTotalDTO;
+import com.example.production.production.entity.AssetProductionTotal;
+import com.example.production.production.entity.PlanProductionTotal;
+import com.example.production.production.entity.ProductionPlan;
+import com.example.production.production.entity.ProductionRecord;
+import com.example.production.production.repository.AssetProductionTotalRepository;
+import com.example.production.production.repository.PlanProductionTotalRepository;
+import com.example.production.production.repository.ProductionPlanRepository;
+import com.example.production.production.repository.ProductionRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps per-plan and per-asset running totals of actual and planned volume.
+ * The write methods are called from inside the record/plan write transactions,
+ * so totals and records commit together; reads are a single primary-key lookup.
+ */
+@Service
+public class ProductionTotalsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductionTotalsService.class);
+
+    private final PlanProductionTotalRepository planTotals;
+    private final AssetProductionTotalRepository assetTotals;
+    private final ProductionPlanRepository planRepository;
+    private final ProductionRecordRepository recordRepository;
+
+    public ProductionTotalsService(
+            PlanProductionTotalRepository planTotals,
+            AssetProductionTotalRepository assetTotals,
+            ProductionPlanRepository planRepository,
+            ProductionRecordRepository recordRepository) {
+        this.planTotals = planTotals;
+        this.assetTotals = assetTotals;
+        this.planRepository = planRepository;
+        this.recordRepository = recordRepository;
+    }
+
+    /* ================= WRITE PATH ================= */
+
+    public void recordAdded(ProductionRecord record) {
+        apply(record, 1);
+    }
+
+    public void recordRemoved(ProductionRecord record) {
+        apply(record, -1);
+    }
+
+    // Bulk inserts: one upsert per distinct plan and asset instead of one per record
+    public void recordsAdded(List<ProductionRecord> records) {
+        Map<Long, double[]> byPlan = new HashMap<>();
+        Map<Long, double[]> byAsset = new HashMap<>();
+        for (ProductionRecord record : records) {
+            double actual = volume(record);
+            ProductionPlan plan = record.getPlan();
+            if (plan != null && plan.getPlanId() != null) {
+                double[] totals = byPlan.computeIfAbsent(plan.getPlanId(), id -> new double[2]);
+                totals[0] += actual;
+                totals[1] += 1;
+            }
+            if (record.getAssetId() != null) {
+                double[] totals = byAsset.computeIfAbsent(record.getAssetId(), id -> new double[3]);
+                totals[0] += actual;
+                totals[1] += plan != null ? plan.getDailyPlannedVolume() : 0.0;
+                totals[2] += 1;
+            }
+        }
+        byPlan.forEach((planId, t) -> planTotals.addToTotals(planId, t[0], (long) t[1]));
+        byAsset.forEach((assetId, t) -> assetTotals.addToTotals(assetId, t[0], t[1], (long) t[2]));
+    }
+
+    // A plan's daily target changed: shift the planned volume already counted for its records.
+    // Grouped by each record's own asset, which stays put when the plan is moved to another asset.
+    public void planTargetChanged(Long planId, double oldDailyTarget, double newDailyTarget) {
+        double delta = newDailyTarget - oldDailyTarget;
+        if (delta == 0) {
+            return;
+        }
+        for (ProductionRecordRepository.AssetVolume group : recordRepository.sumByAssetForPlan(planId)) {
+            long count = group.getRecordCount() != null ? group.getRecordCount() : 0;
+            if (count > 0) {
+                assetTotals.addToTotals(group.getAssetId(), 0.0, count * delta, 0);
+            }
+        }
+    }
+
+    // A plan and all its records are removed: take each record's volume off the asset it was counted on
+    public void planRemoved(ProductionPlan plan) {
+        for (ProductionRecordRepository.AssetVolume group : recordRepository.sumByAssetForPlan(plan.getPlanId())) {
+            double actual = group.getActualVolume() != null ? group.getActualVolume() : 0.0;
+            long count = group.getRecordCount() != null ? group.getRecordCount() : 0;
+            if (count > 0) {
+                assetTotals.addToTotals(group.getAssetId(), -actual, -count * plan.getDailyPlannedVolume(), -count);
+            }
+        }
+        planTotals.findById(plan.getPlanId()).ifPresent(planTotals::delete);
+    }
+
+    private void apply(ProductionRecord record, int sign) {
+        double actual = volume(record);
+        ProductionPlan plan = record.getPlan();
+        if (plan != null && plan.getPlanId() != null) {
+            planTotals.addToTotals(plan.getPlanId(), sign * actual, sign);
+        }
+        if (record.getAssetId() != null) {
+            double planned = plan != null ? plan.getDailyPlannedVolume() : 0.0;
+            assetTotals.addToTotals(record.getAssetId(), sign * actual, sign * planned, sign);
+        }
+    }
+
+    private static double volume(ProductionRecord record) {
+        return record.getActualVolume() != null ? record.getActualVolume() : 0.0;
+    }
+
+    /* ================= READ PATH ================= */
+
+    public ProductionTotalDTO getPlanTotals(Long planId) {
+        ProductionPlan plan = planRepository.findById(planId)
+                .orElseThrow(() -> new RuntimeException("Plan not found with id " + planId));
+        PlanProductionTotal total = planTotals.findById(planId).orElse(null);
+
+        long count = total != null && total.getRecordCount() != null ? total.getRecordCount() : 0;
+        double actual = total != null && total.getActualVolume() != null ? total.getActualVolume() : 0.0;
+
+        ProductionTotalDTO dto = new ProductionTotalDTO();
+        dto.setPlanId(planId);
+        dto.setAssetId(plan.getAssetId());
+        dto.setActualVolume(actual);
+        dto.setPlannedVolume(count * plan.getDailyPlannedVolume());
+        dto.setRecordCount(count);
+        dto.setEfficiency(efficiency(actual, dto.getPlannedVolume()));
+        return dto;
+    }
+
+    public ProductionTotalDTO getAssetTotals(Long assetId) {
+        return assetTotals.findById(assetId)
+                .map(this::map)
+                .orElseGet(() -> {
+                    ProductionTotalDTO dto = new ProductionTotalDTO();
+                    dto.setAssetId(assetId);
+                    return dto;
+                });
+    }
+
+    public List<ProductionTotalDTO> getAllAssetTotals() {
+        return assetTotals.findAll()
+                .stream()
+                .map(this::map)
+                .collect(Collectors.toList());
+    }
+
+    private ProductionTotalDTO map(AssetProductionTotal total) {
+        ProductionTotalDTO dto = new ProductionTotalDTO();
+        dto.setAssetId(total.getAssetId());
+        dto.setActualVolume(total.getActualVolume() != null ? total.getActualVolume() : 0.0);
+        dto.setPlannedVolume(total.getPlannedVolume() != null ? total.getPlannedVolume() : 0.0);
+        dto.setRecordCount(total.getRecordCount() != null ? total.getRecordCount() : 0);
+        dto.setEfficiency(efficiency(dto.getActualVolume(), dto.getPlannedVolume()));
+        return dto;
+    }
+
+    private static double efficiency(double actual, double planned) {
+        return planned > 0 ? Math.round(actual / planned * 1000.0) / 10.0 : 0.0;
+    }
+
+    /* ================= SEEDING ================= */
+
+    // Seeds the totals from existing records the first time the service runs with these tables
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    @Transactional
+    public void seedTotals() {
+        if (planTotals.count() > 0 || assetTotals.count() > 0 || recordRepository.count() == 0) {
+            return;
+        }
+        int plans = planTotals.rebuildFromRecords();
+        int assets = assetTotals.rebuildFromRecords();
+        log.info("Seeded production totals for {} plans and {} assets", plans, assets);
+    }
+}
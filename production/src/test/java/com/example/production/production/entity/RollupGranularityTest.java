@@ -0,0 +1,48 @@
+package com.example.production.production.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class RollupGranularityTest {
+
+    @Test
+    void weeksStartOnMonday() {
+        LocalDate monday = LocalDate.of(2024, 3, 4);
+
+        assertEquals(monday, RollupGranularity.WEEK.bucketStart(monday));
+        assertEquals(monday, RollupGranularity.WEEK.bucketStart(LocalDate.of(2024, 3, 10)));   // Sunday
+        assertEquals(LocalDate.of(2024, 3, 11), RollupGranularity.WEEK.bucketStart(LocalDate.of(2024, 3, 11)));
+        // Week crossing a year boundary belongs to the year of its Monday
+        assertEquals(LocalDate.of(2024, 12, 30), RollupGranularity.WEEK.bucketStart(LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    void monthsStartOnTheFirst() {
+        assertEquals(LocalDate.of(2024, 2, 1), RollupGranularity.MONTH.bucketStart(LocalDate.of(2024, 2, 29)));
+        assertEquals(LocalDate.of(2024, 2, 1), RollupGranularity.MONTH.bucketStart(LocalDate.of(2024, 2, 1)));
+        assertEquals(LocalDate.of(2024, 2, 29), RollupGranularity.DAY.bucketStart(LocalDate.of(2024, 2, 29)));
+    }
+
+    @Test
+    void singleDayIsOneBucketAtEveryGranularity() {
+        LocalDate day = LocalDate.of(2024, 5, 15);
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            assertEquals(1, granularity.bucketsBetween(day, day), granularity.name());
+        }
+    }
+
+    @Test
+    void countsPartialBucketsAtBothEnds() {
+        // Sunday to Monday: two days, but two different weeks
+        assertEquals(2, RollupGranularity.WEEK.bucketsBetween(LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 11)));
+        // Last day of January to first day of February
+        assertEquals(2, RollupGranularity.MONTH.bucketsBetween(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 1)));
+        // Leap day included
+        assertEquals(3, RollupGranularity.DAY.bucketsBetween(LocalDate.of(2024, 2, 28), LocalDate.of(2024, 3, 1)));
+        // Full year, both ends partial months
+        assertEquals(13, RollupGranularity.MONTH.bucketsBetween(LocalDate.of(2023, 6, 15), LocalDate.of(2024, 6, 14)));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.production.production.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class ProductionRecordCursorTest {
+
+    @Test
+    void roundTripsDateAndRecordId() {
+        ProductionRecordService.PageCursor cursor =
+                new ProductionRecordService.PageCursor(LocalDate.of(2024, 2, 29), 1234L);
+
+        assertEquals("2024-02-29:1234", cursor.toString());
+        assertEquals(cursor, ProductionRecordService.PageCursor.parse(cursor.toString()));
+    }
+
+    @Test
+    void toleratesSurroundingWhitespace() {
+        assertEquals(new ProductionRecordService.PageCursor(LocalDate.of(2024, 1, 1), 7L),
+                ProductionRecordService.PageCursor.parse(" 2024-01-01:7 "));
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        for (String cursor : new String[] {
+                "2024-01-01",           // no record id
+                "2024-01-01:",          // empty record id
+                ":7",                   // empty date
+                "2024-01-01:7:8",       // extra part
+                "2024-13-01:7",         // invalid month
+                "2023-02-29:7",         // not a leap year
+                "2024-01-01:abc",       // non-numeric id
+                "01/01/2024:7"          // wrong date format
+        }) {
+            assertThrows(RuntimeException.class, () -> ProductionRecordService.PageCursor.parse(cursor),
+                    "expected rejection of " + cursor);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.production.production.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.production.production.entity.ProductionPlan;
+import com.example.production.production.entity.ProductionRecord;
+import com.example.production.production.entity.RollupGranularity;
+import com.example.production.production.repository.ProductionRecordRepository;
+import com.example.production.production.repository.ProductionRollupRepository;
+
+class ProductionRollupServiceTest {
+
+    // Monday, so week buckets line up with whole weeks
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void usesDaysUpToOneHundredTwentyPoints() {
+        assertEquals(RollupGranularity.DAY, ProductionRollupService.pickGranularity(FROM, FROM));
+        assertEquals(RollupGranularity.DAY, ProductionRollupService.pickGranularity(FROM, FROM.plusDays(119)));
+        assertEquals(RollupGranularity.WEEK, ProductionRollupService.pickGranularity(FROM, FROM.plusDays(120)));
+    }
+
+    @Test
+    void usesWeeksUpToOneHundredTwentyPoints() {
+        assertEquals(RollupGranularity.WEEK,
+                ProductionRollupService.pickGranularity(FROM, FROM.plusWeeks(120).minusDays(1)));
+        assertEquals(RollupGranularity.MONTH,
+                ProductionRollupService.pickGranularity(FROM, FROM.plusWeeks(120)));
+    }
+
+    @Test
+    void fallsBackToMonthsForVeryLongRanges() {
+        assertEquals(RollupGranularity.MONTH, ProductionRollupService.pickGranularity(FROM, FROM.plusYears(3)));
+        // More than 120 months still uses the coarsest bucket rather than failing
+        assertEquals(RollupGranularity.MONTH, ProductionRollupService.pickGranularity(FROM, FROM.plusYears(25)));
+    }
+
+    @Test
+    void planMovedToAnotherAssetKeepsSeparateBucketsPerAsset() {
+        ProductionRollupRepository rollupRepository = mock(ProductionRollupRepository.class);
+        ProductionRollupService service =
+                new ProductionRollupService(rollupRepository, mock(ProductionRecordRepository.class));
+
+        ProductionPlan plan = new ProductionPlan();
+        plan.setPlanId(3L);
+        plan.setDailyPlannedVolume(100.0);
+        // Same plan and day: one record written before the move to asset 2, one after
+        ProductionRecord beforeMove = record(plan, 1L, 80.0);
+        ProductionRecord afterMove = record(plan, 2L, 90.0);
+
+        service.recordsAdded(List.of(beforeMove, afterMove));
+
+        verify(rollupRepository).addToBucket("DAY", FROM, 3L, 1L, 80.0, 100.0, 1L);
+        verify(rollupRepository).addToBucket("DAY", FROM, 3L, 2L, 90.0, 100.0, 1L);
+        verify(rollupRepository, never())
+                .addToBucket(eq("DAY"), eq(FROM), eq(3L), eq(1L), eq(170.0), anyDouble(), anyLong());
+
+        // Removing the pre-move record only touches the old asset's bucket
+        service.recordRemoved(beforeMove);
+
+        verify(rollupRepository).addToBucket("DAY", FROM, 3L, 1L, -80.0, -100.0, -1L);
+        verify(rollupRepository, never()).addToBucket("DAY", FROM, 3L, 2L, -80.0, -100.0, -1L);
+    }
+
+    private static ProductionRecord record(ProductionPlan plan, Long assetId, double actualVolume) {
+        ProductionRecord record = new ProductionRecord();
+        record.setPlan(plan);
+        record.setAssetId(assetId);
+        record.setDate(FROM);
+        record.setActualVolume(actualVolume);
+        return record;
+    }
+}